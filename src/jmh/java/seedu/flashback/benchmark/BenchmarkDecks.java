@@ -0,0 +1,39 @@
+package seedu.flashback.benchmark;
+
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.util.DeckGenerator;
+
+/**
+ * Builds the decks that the benchmarks run on. Decks are generated from a fixed seed, so every run measures the
+ * same data.
+ */
+public class BenchmarkDecks {
+    /** Deck sizes that benchmarks are run with unless overridden with {@code -p deckSize=...}. */
+    public static final String SMALL = "1000";
+    public static final String LARGE = "100000";
+    public static final String HUGE = "1000000";
+
+    private static final long SEED = 42;
+
+    /**
+     * Returns a generator of the benchmark deck of {@code size} cards.
+     */
+    public static DeckGenerator getGenerator(int size) {
+        return new DeckGenerator(size, SEED);
+    }
+
+    /**
+     * Returns a {@code FlashBack} holding {@code size} distinct cards.
+     */
+    public static FlashBack createDeck(int size) {
+        return getGenerator(size).generateFlashBack();
+    }
+
+    /**
+     * Returns the card at position {@code i} of a benchmark deck. Cards at different positions are distinct.
+     */
+    public static Flashcard createCard(int i) {
+        return getGenerator(0).getCard(i);
+    }
+}
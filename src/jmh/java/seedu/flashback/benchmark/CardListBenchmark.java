@@ -0,0 +1,90 @@
+package seedu.flashback.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashback.model.ModelManager;
+import seedu.flashback.model.UserPrefs;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
+
+/**
+ * Measures the card list operations behind the add, edit, delete, undo and redo commands.
+ * Every benchmark leaves the deck as it found it, so the deck size stays fixed across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CardListBenchmark {
+
+    @Param({BenchmarkDecks.SMALL, BenchmarkDecks.LARGE, BenchmarkDecks.HUGE})
+    public int deckSize;
+
+    private ModelManager model;
+    private Flashcard extraCard;
+    private Flashcard middleCard;
+    private Flashcard editedMiddleCard;
+
+    /**
+     * Builds the deck, and commits one edit so that there is always a state to undo.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new ModelManager(BenchmarkDecks.createDeck(deckSize), new UserPrefs());
+        extraCard = BenchmarkDecks.createCard(deckSize);
+        middleCard = model.getFilteredFlashcardList().get(deckSize / 2);
+        editedMiddleCard = middleCard.withStats(new Statistics(middleCard.getStats().getReviewCount() + 1,
+                middleCard.getStats().getCorrectCount()));
+
+        model.setFlashcard(middleCard, editedMiddleCard);
+        model.commitFlashBack();
+        model.setFlashcard(editedMiddleCard, middleCard);
+        model.commitFlashBack();
+    }
+
+    /**
+     * Adds a card to the end of the deck and deletes it again, committing each like the commands do.
+     */
+    @Benchmark
+    public void addAndDelete() {
+        model.addFlashcard(extraCard);
+        model.commitFlashBack();
+        model.deleteFlashcard(extraCard);
+        model.commitFlashBack();
+    }
+
+    /**
+     * Edits a card in the middle of the deck and reverts the edit, committing each like the commands do.
+     */
+    @Benchmark
+    public void editAndRevert() {
+        model.setFlashcard(middleCard, editedMiddleCard);
+        model.commitFlashBack();
+        model.setFlashcard(editedMiddleCard, middleCard);
+        model.commitFlashBack();
+    }
+
+    /**
+     * Undoes the last committed edit and redoes it.
+     */
+    @Benchmark
+    public void undoAndRedo() {
+        model.undoFlashBack();
+        model.redoFlashBack();
+    }
+}
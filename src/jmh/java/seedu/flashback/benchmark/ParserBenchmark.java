@@ -0,0 +1,54 @@
+package seedu.flashback.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashback.logic.commands.Command;
+import seedu.flashback.logic.parser.FlashBackParser;
+import seedu.flashback.logic.parser.exceptions.ParseException;
+import seedu.flashback.model.ModelManager;
+
+/**
+ * Measures parsing user input into commands. Parsing never looks at the cards, only at the aliases in the user
+ * prefs, so unlike the other benchmarks it is not run on decks of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"add q/What is ATP? a/Adenosine Triphosphate c/Biology 101 p/High t/biology t/cells",
+        "edit 1 a/Force = Mass * Acceleration p/Mid",
+        "find algorithms theorem",
+        "filter c/physics p/high",
+        "sort question -a"})
+    public String userInput;
+
+    private FlashBackParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new FlashBackParser();
+        parser.setModel(new ModelManager());
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.flashback.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashback.model.ModelManager;
+import seedu.flashback.model.UserPrefs;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.FlashcardContainsKeywordsPredicate;
+import seedu.flashback.model.flashcard.FlashcardFilterPredicate;
+import seedu.flashback.model.flashcard.FlashcardSortOrder;
+import seedu.flashback.model.flashcard.SortOptions;
+
+/**
+ * Measures the find, filter and sort commands on the model.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+
+    @Param({BenchmarkDecks.SMALL, BenchmarkDecks.LARGE, BenchmarkDecks.HUGE})
+    public int deckSize;
+
+    private ModelManager model;
+    private FlashcardContainsKeywordsPredicate findPredicate;
+    private FlashcardFilterPredicate filterPredicate;
+    private FlashcardSortOrder priorityThenRateDescending;
+    private FlashcardSortOrder priorityThenRateAscending;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new ModelManager(BenchmarkDecks.createDeck(deckSize), new UserPrefs());
+        findPredicate = new FlashcardContainsKeywordsPredicate(Arrays.asList("algorithms", "theorem"));
+        filterPredicate = new FlashcardFilterPredicate(Collections.emptyList(), Arrays.asList("physics"),
+                Arrays.asList("high"), Collections.emptyList());
+        priorityThenRateDescending = new FlashcardSortOrder(
+                Arrays.asList(SortOptions.PRIORITY_DESCENDING, SortOptions.RATE_DESCENDING));
+        priorityThenRateAscending = new FlashcardSortOrder(
+                Arrays.asList(SortOptions.PRIORITY_ASCENDING, SortOptions.RATE_ASCENDING));
+    }
+
+    /**
+     * Finds the cards containing either of two keywords, as {@code find algorithms theorem} does.
+     */
+    @Benchmark
+    public int find() {
+        model.updateFilteredFlashcardList(findPredicate);
+        return model.getFilteredFlashcardList().size();
+    }
+
+    /**
+     * Filters the cards by category and priority, as {@code filter c/physics p/high} does.
+     */
+    @Benchmark
+    public int filter() {
+        model.updateFilteredFlashcardList(filterPredicate);
+        return model.getFilteredFlashcardList().size();
+    }
+
+    /**
+     * Sorts the deck by question in descending and then ascending order, so every sort starts out of order.
+     */
+    @Benchmark
+    public void sortByQuestion() {
+        model.sortFilteredFlashcardList(SortOptions.QUESTION_DESCENDING);
+        model.sortFilteredFlashcardList(SortOptions.QUESTION_ASCENDING);
+    }
+
+    /**
+     * Sorts the deck by priority in descending and then ascending order, so every sort starts out of order.
+     */
+    @Benchmark
+    public void sortByPriority() {
+        model.sortFilteredFlashcardList(SortOptions.PRIORITY_DESCENDING);
+        model.sortFilteredFlashcardList(SortOptions.PRIORITY_ASCENDING);
+    }
+
+    /**
+     * Sorts the deck by priority, then correct rate, in two opposite orders, so every sort starts out of order.
+     */
+    @Benchmark
+    public void sortByPriorityThenRate() {
+        model.sortFilteredFlashcardList(priorityThenRateDescending);
+        model.sortFilteredFlashcardList(priorityThenRateAscending);
+    }
+
+    /**
+     * Sorts like {@link #sortByPriorityThenRate}, but first sorts the cards in parallel and hands the sorted list a
+     * comparator of their positions, as sorting once did. Kept as the baseline the direct sort is measured against.
+     */
+    @Benchmark
+    public void sortByPriorityThenRatePrecomputed() {
+        model.sortFilteredFlashcardList(precomputeOrder(priorityThenRateDescending));
+        model.sortFilteredFlashcardList(precomputeOrder(priorityThenRateAscending));
+    }
+
+    private Comparator<Flashcard> precomputeOrder(FlashcardSortOrder order) {
+        Flashcard[] orderedCards = model.getFlashBack().getCardList().toArray(new Flashcard[0]);
+        Arrays.parallelSort(orderedCards, order);
+        Map<Flashcard, Integer> positions = new IdentityHashMap<>(orderedCards.length);
+        for (int i = 0; i < orderedCards.length; i++) {
+            positions.put(orderedCards[i], i);
+        }
+        return Comparator.comparing(positions::get);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.flashback.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashback.commons.exceptions.DataConversionException;
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.storage.JsonFlashBackStorage;
+
+/**
+ * Measures loading and saving a deck with {@code JsonFlashBackStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+
+    @Param({BenchmarkDecks.SMALL, BenchmarkDecks.LARGE, BenchmarkDecks.HUGE})
+    public int deckSize;
+
+    private FlashBack deck;
+    private Path folder;
+    private Path loadFile;
+    private Path saveFile;
+    private JsonFlashBackStorage storage;
+
+    /**
+     * Streams the deck once to the file that the load benchmark reads, then builds it for the save benchmark.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("flashback-benchmark");
+        loadFile = folder.resolve("load.json");
+        saveFile = folder.resolve("save.json");
+        storage = new JsonFlashBackStorage(loadFile);
+        storage.saveFlashcards(BenchmarkDecks.getGenerator(deckSize), loadFile);
+        deck = BenchmarkDecks.createDeck(deckSize);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyFlashBack load() throws DataConversionException {
+        return storage.readFlashBack(loadFile).get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveFlashBack(deck, saveFile);
+    }
+}
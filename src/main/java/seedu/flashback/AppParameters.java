@@ -2,6 +2,8 @@ package seedu.flashback;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +16,14 @@ import seedu.flashback.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Value of the {@code batch} parameter that reads the batch script from standard input. */
+    public static final String STANDARD_INPUT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isBatchMode;
+    private Path batchScriptPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +33,53 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run a script of commands without a UI.
+     */
+    public boolean isBatchMode() {
+        return isBatchMode;
+    }
+
+    public void setBatchMode(boolean isBatchMode) {
+        this.isBatchMode = isBatchMode;
+    }
+
+    /**
+     * Returns the path of the script to run in batch mode, or null if the script is read from standard input.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@code main}, before JavaFX is started.
+     * Named parameters take the form {@code --name=value}, as they do for {@link Application.Parameters}.
+     */
+    public static AppParameters parse(List<String> rawParameters) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String rawParameter : rawParameters) {
+            int separatorIndex = rawParameter.indexOf('=');
+            if (rawParameter.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(rawParameter.substring(2, separatorIndex),
+                        rawParameter.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +88,16 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchScriptParameter = namedParameters.get("batch");
+        if (batchScriptParameter != null && !batchScriptParameter.equals(STANDARD_INPUT)
+                && !FileUtil.isValidPath(batchScriptParameter)) {
+            logger.warning("Invalid batch script path " + batchScriptParameter + ". Starting the UI instead.");
+            batchScriptParameter = null;
+        }
+        appParameters.setBatchMode(batchScriptParameter != null);
+        appParameters.setBatchScriptPath(batchScriptParameter != null && !batchScriptParameter.equals(STANDARD_INPUT)
+                ? Paths.get(batchScriptParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +112,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isBatchMode() == otherAppParameters.isBatchMode()
+                && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isBatchMode, batchScriptPath);
     }
 }
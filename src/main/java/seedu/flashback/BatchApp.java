@@ -0,0 +1,151 @@
+package seedu.flashback;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import seedu.flashback.commons.core.LogsCenter;
+import seedu.flashback.commons.util.StringUtil;
+import seedu.flashback.logic.LogicManager;
+import seedu.flashback.logic.commands.CommandResult;
+import seedu.flashback.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs a script of FlashBack commands without starting the UI, e.g. to apply many adds and edits from a cron job.
+ *
+ * The script holds one command per line, as it would be typed into the command box. Blank lines and lines starting
+ * with {@value #COMMENT_PREFIX} are skipped, and the script always runs to its end, even past an {@code exit} command.
+ * The feedback of each command is printed to standard output and errors to standard error, prefixed with their line
+ * number.
+ * FlashBack is saved once, after the last command, rather than after every command that modifies it.
+ */
+public class BatchApp extends MainApp {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_SCRIPT_UNREADABLE = 2;
+    /** Number of commands that are handed to the logic together. */
+    public static final int CHUNK_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    private final AppParameters appParameters;
+    private LogicManager batchLogic;
+
+    public BatchApp(AppParameters appParameters) {
+        this.appParameters = appParameters;
+    }
+
+    @Override
+    public void init() {
+        logger.info("=============================[ Initializing FlashBack in batch mode ]===========");
+        initComponents(appParameters);
+
+        batchLogic = new LogicManager(model, storage);
+        batchLogic.setSaveDeferred(true);
+        logic = batchLogic;
+    }
+
+    /**
+     * Runs the script given by the application parameters, saves FlashBack and returns the exit status.
+     */
+    public int run(PrintWriter out, PrintWriter err) {
+        init();
+        int exitStatus;
+        try (BufferedReader script = openScript()) {
+            exitStatus = run(script, out, err);
+        } catch (IOException e) {
+            logger.severe("Failed to read batch script " + StringUtil.getDetails(e));
+            err.println("Could not read script: " + e.getMessage());
+            exitStatus = EXIT_SCRIPT_UNREADABLE;
+        }
+
+        try {
+            batchLogic.saveDeferredChanges();
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            exitStatus = EXIT_COMMAND_FAILED;
+        }
+        stop();
+
+        out.flush();
+        err.flush();
+        return exitStatus;
+    }
+
+    /**
+     * Executes each command of {@code script} in turn, and returns {@link #EXIT_COMMAND_FAILED} if any of them failed.
+     * A failed command does not stop the script.
+     *
+     * Commands are handed to the logic's writer thread {@value #CHUNK_SIZE} at a time, so that the writer runs
+     * through a whole chunk instead of waiting for this thread after every command.
+     */
+    int run(BufferedReader script, PrintWriter out, PrintWriter err) throws IOException {
+        int failedCount = 0;
+        int lineNumber = 0;
+        List<Integer> chunkLineNumbers = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        for (String line = script.readLine(); line != null; line = script.readLine()) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            chunkLineNumbers.add(lineNumber);
+            chunk.add(commandText);
+            if (chunk.size() == CHUNK_SIZE) {
+                failedCount += runChunk(chunkLineNumbers, chunk, out, err);
+            }
+        }
+        failedCount += runChunk(chunkLineNumbers, chunk, out, err);
+
+        logger.info("Ran batch script with " + failedCount + " failed command(s)");
+        return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Executes the commands of {@code chunk}, prints their feedback and errors, and clears the chunk.
+     * Returns the number of commands that failed.
+     */
+    private int runChunk(List<Integer> chunkLineNumbers, List<String> chunk, PrintWriter out, PrintWriter err) {
+        List<CompletableFuture<CommandResult>> results = batchLogic.executeAsync(chunk);
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        // waiting for the last command wakes this thread once per chunk rather than once per command
+        results.get(results.size() - 1).exceptionally(error -> null).join();
+        int failedCount = 0;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                out.println(results.get(i).join().getFeedbackToUser());
+            } catch (CompletionException e) {
+                err.println("Line " + chunkLineNumbers.get(i) + ": " + e.getCause().getMessage());
+                failedCount++;
+            }
+        }
+
+        chunkLineNumbers.clear();
+        chunk.clear();
+        return failedCount;
+    }
+
+    private BufferedReader openScript() throws IOException {
+        if (appParameters.getBatchScriptPath() == null) {
+            return new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        }
+        return Files.newBufferedReader(appParameters.getBatchScriptPath(), UTF_8);
+    }
+
+}
@@ -1,5 +1,12 @@
 package seedu.flashback;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +24,22 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --batch=<script>}, or {@code --batch=-} to read the script from standard input, the commands of the
+ * script are run by {@link BatchApp} instead, without starting JavaFX.
  */
 public class Main {
+    /**
+     * Starts the application, or runs a batch script if one is given.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        if (appParameters.isBatchMode()) {
+            PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, UTF_8)));
+            PrintWriter err = new PrintWriter(new OutputStreamWriter(System.err, UTF_8), true);
+            System.exit(new BatchApp(appParameters).run(out, err));
+        }
+
         Application.launch(MainApp.class, args);
     }
 }
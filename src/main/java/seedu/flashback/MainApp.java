@@ -3,6 +3,7 @@ package seedu.flashback;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -23,7 +24,10 @@ import seedu.flashback.model.ReadOnlyFlashBack;
 import seedu.flashback.model.ReadOnlyUserPrefs;
 import seedu.flashback.model.UserPrefs;
 import seedu.flashback.model.util.SampleDataUtil;
+import seedu.flashback.storage.AsyncFlashBackStorage;
+import seedu.flashback.storage.BinaryFlashBackStorage;
 import seedu.flashback.storage.FlashBackStorage;
+import seedu.flashback.storage.JournalFlashBackStorage;
 import seedu.flashback.storage.JsonFlashBackStorage;
 import seedu.flashback.storage.JsonUserPrefsStorage;
 import seedu.flashback.storage.Storage;
@@ -39,6 +43,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    public static final String JOURNAL_FILE_EXTENSION = ".jsonl";
+    public static final String BINARY_FILE_EXTENSION = ".fbk";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -52,12 +59,20 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing FlashBack ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component of the application other than the UI.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FlashBackStorage flashBackStorage = new JsonFlashBackStorage(userPrefs.getFlashBackFilePath());
+        FlashBackStorage flashBackStorage = new AsyncFlashBackStorage(initFlashBackStorage(userPrefs));
         storage = new StorageManager(flashBackStorage, userPrefsStorage);
 
         initLogging(config);
@@ -65,8 +80,22 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the {@code FlashBackStorage} for the data file in {@code userPrefs}.
+     * A data file ending in {@value #JOURNAL_FILE_EXTENSION} is stored as a snapshot plus an append-only journal,
+     * one ending in {@value #BINARY_FILE_EXTENSION} as a binary snapshot, and any other as a single JSON document.
+     */
+    private FlashBackStorage initFlashBackStorage(ReadOnlyUserPrefs userPrefs) {
+        Path flashBackFilePath = userPrefs.getFlashBackFilePath();
+        if (flashBackFilePath.toString().endsWith(JOURNAL_FILE_EXTENSION)) {
+            return new JournalFlashBackStorage(flashBackFilePath);
+        }
+        if (flashBackFilePath.toString().endsWith(BINARY_FILE_EXTENSION)) {
+            return new BinaryFlashBackStorage(flashBackFilePath);
+        }
+        return new JsonFlashBackStorage(flashBackFilePath);
     }
 
     /**
@@ -173,16 +202,37 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting FlashBack " + MainApp.VERSION);
+        // answers buffered by a review session would otherwise be lost if the UI fails
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> {
+            logger.severe("Uncaught exception " + StringUtil.getDetails(e));
+            commitReviewSession();
+        });
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FlashBack ] =============================");
+        // the answers must reach storage before it is flushed
+        commitReviewSession().join();
+        try {
+            storage.flushFlashBack();
+        } catch (IOException e) {
+            logger.severe("Failed to save FlashBack " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    private CompletableFuture<Void> commitReviewSession() {
+        return logic.commitReviewSession().handle((unused, e) -> {
+            if (e != null) {
+                logger.severe("Failed to save reviewed flash cards " + StringUtil.getDetails(e));
+            }
+            return null;
+        });
+    }
 }
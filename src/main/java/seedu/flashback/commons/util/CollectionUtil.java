@@ -108,19 +108,18 @@ public class CollectionUtil {
     }
 
     /**
-     * Returns a String from a set of Tag with space in between each Tag
+     * Returns a lowercase String from a set of Tag with a space after each Tag
      *
      * @param tags set of Tag
      * @return String from the set of Tag
      */
-    private static String tagsToString(Set<Tag> tags) {
-        String tagString = "";
+    public static String tagsToString(Set<Tag> tags) {
+        StringBuilder tagString = new StringBuilder();
 
         for (Tag tag : tags) {
-            tagString += tag.tagName.toLowerCase() + " ";
+            tagString.append(tag.tagName.toLowerCase()).append(' ');
         }
-        tagString.trim();
 
-        return tagString;
+        return tagString.toString();
     }
 }
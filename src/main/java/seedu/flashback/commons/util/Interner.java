@@ -0,0 +1,41 @@
+package seedu.flashback.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one instance among equal immutable values, so that a value used by many objects is held in memory once.
+ *
+ * Values are held weakly, and a value that is no longer used anywhere else is dropped from the pool.
+ * An interner may be used from several threads.
+ *
+ * @param <T> Type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the pooled value equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T pooled = reference == null ? null : reference.get();
+        if (pooled == null) {
+            pool.put(value, new WeakReference<>(value));
+            pooled = value;
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
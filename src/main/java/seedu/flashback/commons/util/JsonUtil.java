@@ -3,14 +3,20 @@ package seedu.flashback.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -90,6 +96,35 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a streaming parser over the JSON file at {@code filePath}, which reads the file in small chunks.
+     * Values can be bound one at a time with {@link JsonParser#readValueAs(Class)}.
+     * The caller is responsible for closing the parser, which also closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        return objectMapper.getFactory().createParser(Channels.newInputStream(channel));
+    }
+
+    /**
+     * Returns a streaming generator that writes JSON to {@code filePath}, overwriting the file if it exists.
+     * Values can be written one at a time with {@link JsonGenerator#writeObject(Object)}.
+     * The caller is responsible for closing the generator, which also flushes and closes the file.
+     * @param filePath cannot be null
+     * @param isPrettyPrinted whether the output should be indented for human readers
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(Channels.newOutputStream(channel), JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +145,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON string without any pretty printing.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
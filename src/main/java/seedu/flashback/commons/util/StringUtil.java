@@ -5,7 +5,10 @@ import static seedu.flashback.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -63,6 +66,24 @@ public class StringUtil {
         return preppedSentence.contains(preppedWord);
     }
 
+    /**
+     * Returns the {@code words} trimmed and in lowercase, ready to be matched against lowercase text
+     * with {@link String#contains(CharSequence)}. The result is unmodifiable.
+     * @param words cannot be null, no word can be empty or contain more than one word
+     */
+    public static List<String> toLowerCaseWords(List<String> words) {
+        requireNonNull(words);
+
+        List<String> preppedWords = new ArrayList<>(words.size());
+        for (String word : words) {
+            String preppedWord = word.trim();
+            checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+            preppedWords.add(preppedWord.toLowerCase());
+        }
+        return Collections.unmodifiableList(preppedWords);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,7 @@
 package seedu.flashback.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.flashback.commons.core.GuiSettings;
@@ -10,9 +11,14 @@ import seedu.flashback.logic.commands.exceptions.CommandException;
 import seedu.flashback.logic.parser.exceptions.ParseException;
 import seedu.flashback.model.ReadOnlyFlashBack;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
 
 /**
  * API of the Logic component
+ *
+ * Commands and reviews modify the model on a single writer thread, one at a time and in the order they are submitted.
+ * The synchronous methods wait for their turn on that thread, so they may be mixed freely with
+ * {@link #executeAsync(String)} and the review methods, which return without waiting.
  */
 public interface Logic {
     /**
@@ -33,6 +39,38 @@ public interface Logic {
      */
     CommandResult execute(Command command) throws CommandException;
 
+    /**
+     * Queues the command to be executed after every command submitted before it, and returns without waiting for it.
+     * The returned future completes on the writer thread, with the result of the command or with the
+     * {@code CommandException}, {@code ParseException} or other exception or error that it threw. Observers of the
+     * model's lists are notified on the writer thread as well.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, once the command has been executed.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Queues the new statistics of a flash card reviewed in review mode to be buffered, and returns without waiting.
+     * Buffered statistics are applied to the model and saved together by {@link #commitReviewSession()}, or once
+     * enough of them are buffered.
+     *
+     * @param reviewedCard The reviewed flash card, as it is in the filtered list.
+     * @param updatedStats The statistics of the flash card after the review.
+     * @return a future that completes on the writer thread once the statistics are buffered, or with the
+     *         {@code CommandException} thrown if the buffered statistics had to be saved and saving failed.
+     */
+    CompletableFuture<Void> recordReview(Flashcard reviewedCard, Statistics updatedStats);
+
+    /**
+     * Queues the buffered statistics of reviewed flash cards to be applied to the model and saved, if there are any,
+     * and returns without waiting.
+     *
+     * @return a future that completes on the writer thread once the statistics are saved, or with the
+     *         {@code CommandException} thrown if an error occurs while saving.
+     */
+    CompletableFuture<Void> commitReviewSession();
+
     /**
      * Returns Flashback.
      *
@@ -2,6 +2,12 @@ package seedu.flashback.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +21,7 @@ import seedu.flashback.logic.parser.exceptions.ParseException;
 import seedu.flashback.model.Model;
 import seedu.flashback.model.ReadOnlyFlashBack;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
 import seedu.flashback.storage.Storage;
 
 /**
@@ -22,11 +29,23 @@ import seedu.flashback.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String INTERRUPTED_ERROR_MESSAGE = "Interrupted while waiting for the command to execute";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final FlashBackParser flashBackParser;
+    private final ReviewSession reviewSession = new ReviewSession();
+    private volatile boolean isSaveDeferred;
+
+    private volatile Thread writerThread;
+    /** The only thread that modifies the model, so commands never run concurrently and run in submission order. */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FlashBack command writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        return thread;
+    });
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -34,37 +53,206 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        // a save that fails in the background leaves FlashBack unsaved, so that the next command saves it again
+        storage.setWriteFailureHandler(unused -> runOnWriter(model::markFlashBackUnsaved));
         flashBackParser = new FlashBackParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return await(submit(() -> executeOnWriter(commandText)));
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        return awaitWithoutParsing(submit(() -> executeOnWriter(command)));
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        return submit(() -> executeOnWriter(commandText));
+    }
+
+    /**
+     * Queues the commands to be executed one after another, and returns without waiting for them.
+     * The commands run as one task on the writer thread, so unlike a series of {@link #executeAsync(String)} calls,
+     * the writer thread does not hand control back to the caller between them. A failed command does not stop the
+     * commands after it.
+     *
+     * @param commandTexts The commands, as entered by the user.
+     * @return the result of each command, in the same order as {@code commandTexts}.
+     */
+    public List<CompletableFuture<CommandResult>> executeAsync(List<String> commandTexts) {
+        List<String> commandTextsCopy = new ArrayList<>(commandTexts);
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        commandTextsCopy.forEach(unused -> results.add(new CompletableFuture<>()));
+        runOnWriter(() -> {
+            for (int i = 0; i < commandTextsCopy.size(); i++) {
+                String commandText = commandTextsCopy.get(i);
+                complete(results.get(i), () -> executeOnWriter(commandText));
+            }
+        });
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<Void> recordReview(Flashcard reviewedCard, Statistics updatedStats) {
+        return submit(() -> {
+            reviewSession.record(reviewedCard, updatedStats);
+            if (reviewSession.isFull()) {
+                commitReviewSessionOnWriter();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> commitReviewSession() {
+        return submit(() -> {
+            commitReviewSessionOnWriter();
+            return null;
+        });
+    }
+
+    /**
+     * Sets whether commands leave their changes unsaved until {@link #saveDeferredChanges()} is called, so that
+     * running many commands in a row does not save FlashBack after each of them.
+     */
+    public void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+    }
+
+    /**
+     * Saves FlashBack to storage if it has changes that were left unsaved while saving was deferred.
+     *
+     * @throws CommandException If an error occurs while saving.
+     */
+    public void saveDeferredChanges() throws CommandException {
+        awaitWithoutParsing(submit(() -> {
+            saveFlashBack();
+            return null;
+        }));
+    }
+
+    private CommandResult executeOnWriter(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         CommandResult commandResult;
         flashBackParser.setModel(model);
         Command command = flashBackParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        saveFlashBackIfModified();
+
+        return commandResult;
+    }
 
+    private CommandResult executeOnWriter(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+        saveFlashBackIfModified();
+
+        return commandResult;
+    }
+
+    private void commitReviewSessionOnWriter() throws CommandException {
+        if (reviewSession.getPendingCount() == 0) {
+            return;
+        }
+
+        logger.info("Saving statistics of " + reviewSession.getPendingCount() + " reviewed flash card(s)");
+        // the buffer is only cleared once the updates are in the model, after which saving them may still fail
+        reviewSession.getPendingUpdates().execute(model);
+        reviewSession.clear();
+        saveFlashBackIfModified();
+    }
+
+    /**
+     * Runs {@code task} on the writer thread after every task submitted before it.
+     */
+    private <T> CompletableFuture<T> submit(WriterTask<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        runOnWriter(() -> complete(future, task));
+        return future;
+    }
+
+    /**
+     * Runs {@code runnable} on the writer thread after everything submitted before it. A runnable submitted from the
+     * writer thread itself runs at once, as it would otherwise wait for the task that submitted it.
+     */
+    private void runOnWriter(Runnable runnable) {
+        if (Thread.currentThread() == writerThread) {
+            runnable.run();
+        } else {
+            writer.execute(runnable);
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, WriterTask<T> task) {
         try {
-            storage.saveFlashBack(model.getFlashBack());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            future.complete(task.call());
+        } catch (Throwable e) {
+            // any failure, including an AssertionError, must complete the future, or its callers wait forever
+            future.completeExceptionally(e);
         }
+    }
 
-        return commandResult;
+    /**
+     * Waits for a task submitted to the writer thread, and rethrows the exception it failed with, if any.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws CommandException, ParseException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(INTERRUPTED_ERROR_MESSAGE, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 
-    @Override
-    public CommandResult execute(Command command) throws CommandException {
-        CommandResult commandResult = command.execute(model);
+    /**
+     * Waits for a task that does not parse any command text.
+     */
+    private static <T> T awaitWithoutParsing(CompletableFuture<T> future) throws CommandException {
+        try {
+            return await(future);
+        } catch (ParseException e) {
+            throw new AssertionError("Task does not parse commands", e);
+        }
+    }
+
+    /**
+     * Saves FlashBack to storage if the last command modified it, unless saving is deferred.
+     * Read-only commands do not trigger a save. Runs on the writer thread only.
+     */
+    private void saveFlashBackIfModified() throws CommandException {
+        if (!isSaveDeferred) {
+            saveFlashBack();
+        }
+    }
+
+    /**
+     * Saves FlashBack to storage if it has unsaved changes. Runs on the writer thread only.
+     */
+    private void saveFlashBack() throws CommandException {
+        if (!model.hasUnsavedChanges()) {
+            return;
+        }
 
         try {
             storage.saveFlashBack(model.getFlashBack());
+            model.markFlashBackSaved();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -91,4 +279,12 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A unit of work that runs on the writer thread.
+     */
+    @FunctionalInterface
+    private interface WriterTask<T> {
+        T call() throws CommandException, ParseException;
+    }
 }
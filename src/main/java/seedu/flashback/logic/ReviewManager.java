@@ -1,36 +1,51 @@
 package seedu.flashback.logic;
 
+import java.time.Clock;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-import javafx.collections.ObservableList;
-import seedu.flashback.logic.commands.CommandResult;
-import seedu.flashback.logic.commands.UpdateStatisticsCommand;
-import seedu.flashback.logic.commands.exceptions.CommandException;
 import seedu.flashback.model.flashcard.Flashcard;
 
+/**
+ * Walks through the flash cards that are due for review when a session starts, earliest due first.
+ * The due cards are taken from the model's {@code ReviewQueue} once, by the {@code review} command, which takes time in
+ * proportion to the number of due cards; cards that are not due are never visited.
+ *
+ * Answers are buffered by {@code Logic} and saved in batches, see {@link #commitReviewSession()}. Neither recording
+ * nor saving them waits for the writer thread, so that review mode stays responsive while a command runs.
+ */
 public class ReviewManager {
-    private final ArrayList<Flashcard> shuffleDeckOfCards;
     private final Logic logic;
+    private final Clock clock;
+    /** The cards that were due when the session started, in session order. */
+    private final List<Flashcard> sessionCards;
     private int currentIndex;
 
     /**
-     * Creates a {@code ReviewManager} to handle Review Mode with specified logic;
+     * Creates a {@code ReviewManager} to handle Review Mode with specified logic, which reviews
+     * {@code sessionCards} in order.
      */
-    public ReviewManager(Logic logic) {
+    public ReviewManager(Logic logic, List<Flashcard> sessionCards) {
+        this(logic, sessionCards, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code ReviewManager} to handle Review Mode with specified logic, which reviews
+     * {@code sessionCards} in order and records the reviews at the current time of {@code clock}.
+     */
+    public ReviewManager(Logic logic, List<Flashcard> sessionCards, Clock clock) {
         this.logic = logic;
-        ObservableList<Flashcard> originalDeckOfCards = logic.getFilteredFlashcardList();
-        this.shuffleDeckOfCards = new ArrayList<>(originalDeckOfCards);
-        Collections.shuffle(shuffleDeckOfCards, new Random(3));
+        this.clock = clock;
+        this.sessionCards = sessionCards;
         this.currentIndex = 0;
     }
 
     /**
-     * Gets the size of the list of flashcards.
+     * Gets the number of flashcards due for review in this session.
      */
     public int getFlashcardDeckSize() {
-        return shuffleDeckOfCards.size();
+        return sessionCards.size();
     }
 
     /**
@@ -51,7 +66,16 @@ public class ReviewManager {
      * Checks if there is a next flashcard after the current flashcard.
      */
     public boolean hasNextFlashcard() {
-        return currentIndex < shuffleDeckOfCards.size() - 1;
+        return currentIndex < sessionCards.size() - 1;
+    }
+
+    /**
+     * Returns up to {@code count} flashcards that follow the current flashcard in session order, so that they can be
+     * prepared before they are shown. Looking ahead does not change the order of the session.
+     */
+    public List<Flashcard> getUpcomingFlashcards(int count) {
+        int start = Math.min(currentIndex + 1, sessionCards.size());
+        return new ArrayList<>(sessionCards.subList(start, Math.min(start + count, sessionCards.size())));
     }
 
     /**
@@ -65,7 +89,7 @@ public class ReviewManager {
      * Gets the flashcard corresponds to the current index.
      */
     public Flashcard getCurrentFlashcard() {
-        return shuffleDeckOfCards.get(currentIndex);
+        return sessionCards.get(currentIndex);
     }
 
     public int getCurrentIndex() {
@@ -76,31 +100,33 @@ public class ReviewManager {
      * Updates the statistics of a flashcard when user gets the correct answer.
      *
      * @param cardToUpdate The flash card to update.
-     * @return A feedback message to display to user.
+     * @return A future that completes once the answer is recorded, see {@link Logic#recordReview}.
      */
-    public String updateCardCorrect(Flashcard cardToUpdate) {
-        try {
-            UpdateStatisticsCommand updateStatistics = new UpdateStatisticsCommand(cardToUpdate, true);
-            CommandResult result = logic.execute(updateStatistics);
-            return result.getFeedbackToUser();
-        } catch (CommandException e) {
-            return e.getMessage();
-        }
+    public CompletableFuture<Void> updateCardCorrect(Flashcard cardToUpdate) {
+        return updateCard(cardToUpdate, true);
     }
 
     /**
      * Updates the statistics of a flash card when user gets the wrong answer.
      *
      * @param cardToUpdate The flash card to update.
-     * @return A feedback message to display to user.
+     * @return A future that completes once the answer is recorded, see {@link Logic#recordReview}.
      */
-    public String updateCardWrong(Flashcard cardToUpdate) {
-        try {
-            UpdateStatisticsCommand updateStatistics = new UpdateStatisticsCommand(cardToUpdate, false);
-            CommandResult result = logic.execute(updateStatistics);
-            return result.getFeedbackToUser();
-        } catch (CommandException e) {
-            return e.getMessage();
-        }
+    public CompletableFuture<Void> updateCardWrong(Flashcard cardToUpdate) {
+        return updateCard(cardToUpdate, false);
+    }
+
+    /**
+     * Applies and saves the statistics of the cards answered since the last commit. Called when the session ends,
+     * and periodically while it lasts so that few answers are at risk.
+     *
+     * @return A future that completes once the answers are saved, see {@link Logic#commitReviewSession()}.
+     */
+    public CompletableFuture<Void> commitReviewSession() {
+        return logic.commitReviewSession();
+    }
+
+    private CompletableFuture<Void> updateCard(Flashcard cardToUpdate, boolean isCorrect) {
+        return logic.recordReview(cardToUpdate, cardToUpdate.getStats().review(isCorrect, clock.millis()));
     }
 }
@@ -0,0 +1,74 @@
+package seedu.flashback.logic;
+
+import static seedu.flashback.commons.util.AppUtil.checkArgument;
+import static seedu.flashback.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.flashback.logic.commands.BatchUpdateStatisticsCommand;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
+
+/**
+ * Buffers the statistics updates of a review session, so that they can be applied to the model and saved in one
+ * batch instead of one save per answer.
+ */
+public class ReviewSession {
+    /** Number of buffered updates at which the session should be committed, which bounds the answers at risk. */
+    public static final int DEFAULT_MAX_PENDING_UPDATES = 50;
+
+    /** The new statistics of each reviewed card, keyed by the card instance in the model. */
+    private final Map<Flashcard, Statistics> pendingStats = new IdentityHashMap<>();
+    private final int maxPendingUpdates;
+
+    public ReviewSession() {
+        this(DEFAULT_MAX_PENDING_UPDATES);
+    }
+
+    /**
+     * Creates a {@code ReviewSession} that is full once {@code maxPendingUpdates} updates are buffered.
+     */
+    public ReviewSession(int maxPendingUpdates) {
+        checkArgument(maxPendingUpdates > 0, "Maximum pending updates should be positive");
+        this.maxPendingUpdates = maxPendingUpdates;
+    }
+
+    /**
+     * Buffers {@code updatedStats} as the new statistics of {@code reviewedCard}, replacing any update buffered
+     * for the same card.
+     */
+    public void record(Flashcard reviewedCard, Statistics updatedStats) {
+        requireAllNonNull(reviewedCard, updatedStats);
+        pendingStats.put(reviewedCard, updatedStats);
+    }
+
+    /**
+     * Returns the number of buffered updates.
+     */
+    public int getPendingCount() {
+        return pendingStats.size();
+    }
+
+    /**
+     * Returns true if the session has buffered as many updates as it should before being committed.
+     */
+    public boolean isFull() {
+        return pendingStats.size() >= maxPendingUpdates;
+    }
+
+    /**
+     * Returns a command that applies every buffered update. The buffer is kept until {@link #clear()} is called,
+     * so that no update is lost if the command fails.
+     */
+    public BatchUpdateStatisticsCommand getPendingUpdates() {
+        return new BatchUpdateStatisticsCommand(new IdentityHashMap<>(pendingStats));
+    }
+
+    /**
+     * Discards every buffered update, e.g. once they have been applied to the model.
+     */
+    public void clear() {
+        pendingStats.clear();
+    }
+}
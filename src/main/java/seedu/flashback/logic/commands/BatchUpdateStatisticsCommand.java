@@ -0,0 +1,46 @@
+package seedu.flashback.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.flashback.model.Model;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
+
+/**
+ * A class representing the command to update the statistics of all the flash cards reviewed since the last update,
+ * in a single change to the model. Reviewed flash cards that have left the model since, e.g. because they were
+ * deleted, are skipped.
+ */
+public class BatchUpdateStatisticsCommand extends Command {
+    public static final String MESSAGE_SUCCESS = "Statistics of %1$d reviewed flash card(s) saved";
+    private final Map<Flashcard, Statistics> updatedStats;
+
+    /**
+     * Constructor of the BatchUpdateStatisticsCommand.
+     *
+     * @param updatedStats The new statistics of each reviewed flash card, keyed by the card instance in the model.
+     */
+    public BatchUpdateStatisticsCommand(Map<Flashcard, Statistics> updatedStats) {
+        requireNonNull(updatedStats);
+        this.updatedStats = updatedStats;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Flashcard, Flashcard> updatedCards = new IdentityHashMap<>(updatedStats.size());
+        for (Flashcard card : model.getFlashBack().getCardList()) {
+            Statistics stats = updatedStats.get(card);
+            if (stats != null) {
+                updatedCards.put(card, card.withStats(stats));
+            }
+        }
+        if (!updatedCards.isEmpty()) {
+            model.setFlashcards(updatedCards);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedCards.size()));
+    }
+}
@@ -2,19 +2,19 @@ package seedu.flashback.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import seedu.flashback.commons.core.index.Index;
+import seedu.flashback.model.flashcard.Flashcard;
 import seedu.flashback.model.flashcard.Statistics;
 
 /**
  * Represents the result of a command execution.
  */
 public class CommandResult {
-    private static final int DEFAULT_INDEX = -1;
     private static final Statistics DEFAULT_STATS = new Statistics();
-    private static final Optional<Index> DEFAULT_STATS_INDEX = Optional.empty();
     private final String feedbackToUser;
 
     /** Help information should be shown to the user. */
@@ -34,9 +34,9 @@ public class CommandResult {
     private final boolean showStats;
 
     /**
-     * Get the index of the card to show to the user.
+     * The flash card to show to the user, as it was when the command was executed.
      */
-    private final int index;
+    private final Flashcard viewFlashcard;
 
     /**
      * Statistics of the flash card(s).
@@ -44,15 +44,20 @@ public class CommandResult {
     private final Statistics stats;
 
     /**
-     * Either contain an index of a flash card, or does not contain any index.
+     * Either contain the flash card whose statistics are shown, or does not contain any flash card.
      */
-    private final Optional<Index> statsIndex;
+    private final Optional<Flashcard> statsFlashcard;
 
     /**
      * The application enters review mode.
      */
     private final boolean reviewMode;
 
+    /**
+     * The flash cards to review in review mode, earliest due first.
+     */
+    private final List<Flashcard> reviewFlashcards;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -62,44 +67,65 @@ public class CommandResult {
         this.exit = exit;
         this.showView = false;
         this.showStats = false;
-        this.index = DEFAULT_INDEX;
+        this.viewFlashcard = null;
         this.stats = DEFAULT_STATS;
-        this.statsIndex = DEFAULT_STATS_INDEX;
+        this.statsFlashcard = Optional.empty();
         this.reviewMode = reviewMode;
+        this.reviewFlashcards = List.of();
     }
 
     /**
-     * Constructs a {@code CommandResult} with the specified fields {@code feedbackToUser, index},
+     * Constructs a {@code CommandResult} with the specified fields {@code feedbackToUser, viewFlashcard},
      * and other fields set to their default value.
      * Uses for View Command.
      */
-    public CommandResult(String feedbackToUser, int index) {
+    public CommandResult(String feedbackToUser, Flashcard viewFlashcard) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = false;
         this.exit = false;
         this.showView = true;
         this.showStats = false;
-        this.index = index;
+        this.viewFlashcard = requireNonNull(viewFlashcard);
         this.stats = DEFAULT_STATS;
-        this.statsIndex = DEFAULT_STATS_INDEX;
+        this.statsFlashcard = Optional.empty();
         this.reviewMode = false;
+        this.reviewFlashcards = List.of();
     }
 
     /**
-     * Constructs a {@code CommandResult} with the specified fields {@code feedbackToUser, statsIndex, stats},
+     * Constructs a {@code CommandResult} with the specified fields {@code feedbackToUser, statsFlashcard, stats},
      * and other fields set to their default value.
      * Used for the Stats Command.
      */
-    public CommandResult(String feedbackToUser, Optional<Index> statsIndex, Statistics stats) {
+    public CommandResult(String feedbackToUser, Optional<Flashcard> statsFlashcard, Statistics stats) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = false;
         this.exit = false;
         this.showView = false;
         this.showStats = true;
-        this.index = DEFAULT_INDEX;
+        this.viewFlashcard = null;
         this.stats = stats;
-        this.statsIndex = statsIndex;
+        this.statsFlashcard = requireNonNull(statsFlashcard);
         this.reviewMode = false;
+        this.reviewFlashcards = List.of();
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields {@code feedbackToUser, reviewFlashcards},
+     * and other fields set to their default value.
+     * Used for the Review Command.
+     */
+    public CommandResult(String feedbackToUser, List<Flashcard> reviewFlashcards) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showView = false;
+        this.showStats = false;
+        this.viewFlashcard = null;
+        this.stats = DEFAULT_STATS;
+        this.statsFlashcard = Optional.empty();
+        this.reviewMode = true;
+        this.reviewFlashcards = Collections.unmodifiableList(requireNonNull(reviewFlashcards));
     }
 
     /**
@@ -114,16 +140,16 @@ public class CommandResult {
         return feedbackToUser;
     }
 
-    public int getIndex() {
-        return index;
+    public Flashcard getViewFlashcard() {
+        return viewFlashcard;
     }
 
     public Statistics getStats() {
         return stats;
     }
 
-    public Optional<Index> getStatsIndex() {
-        return statsIndex;
+    public Optional<Flashcard> getStatsFlashcard() {
+        return statsFlashcard;
     }
 
     public boolean isShowHelp() {
@@ -146,6 +172,10 @@ public class CommandResult {
         return reviewMode;
     }
 
+    public List<Flashcard> getReviewFlashcards() {
+        return reviewFlashcards;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,20 +2,29 @@ package seedu.flashback.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.flashback.logic.commands.exceptions.CommandException;
 import seedu.flashback.model.Model;
+import seedu.flashback.model.flashcard.Flashcard;
 
 
 public class ReviewCommand extends Command {
     public static final String COMMAND_WORD = "review";
     public static final String MESSAGE_REVIEW_SUCCESS = "Enter the review mode";
     public static final String MESSAGE_REVIEW_FAIL = "There are no cards to review";
+    public static final String MESSAGE_NO_CARDS_DUE = "There are no cards due for review";
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         if (model.getFilteredFlashcardList().size() == 0) {
             throw new CommandException(MESSAGE_REVIEW_FAIL);
         }
-        return new CommandResult(MESSAGE_REVIEW_SUCCESS, false, false, true);
+        // the cards are taken here, on the thread that changes the model, rather than by the review mode UI
+        List<Flashcard> dueFlashcards = model.getReviewQueue().getDue(System.currentTimeMillis());
+        if (dueFlashcards.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_CARDS_DUE);
+        }
+        return new CommandResult(MESSAGE_REVIEW_SUCCESS, dueFlashcards);
     }
 }
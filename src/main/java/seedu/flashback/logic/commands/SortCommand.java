@@ -2,8 +2,13 @@ package seedu.flashback.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.flashback.logic.commands.exceptions.CommandException;
 import seedu.flashback.model.Model;
+import seedu.flashback.model.flashcard.FlashcardSortOrder;
 import seedu.flashback.model.flashcard.SortOptions;
 
 /**
@@ -14,9 +19,10 @@ public class SortCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Sorts and lists flashcards according to option given by user.\n"
-            + "User is allowed to sort by question in lexicographical order and priority.\n"
-            + "Parameters: <question|priority> <-a|-d>\n"
-            + "Example: " + COMMAND_WORD + " priority " + "-d";
+            + "User is allowed to sort by question in lexicographical order, priority and correct rate.\n"
+            + "Cards that are equal by the first option are sorted by the next one.\n"
+            + "Parameters: <question|priority|rate> <-a|-d> [<question|priority|rate> <-a|-d>]...\n"
+            + "Example: " + COMMAND_WORD + " priority " + "-d" + " rate -a";
 
     public static final String MESSAGE_SORTED_QUESTION_ASCENDING = "Sorted flashcards by question "
             + "in ascending order!";
@@ -26,17 +32,38 @@ public class SortCommand extends Command {
             + "ascending order!";
     public static final String MESSAGE_SORTED_PRIORITY_DESCENDING = "Sorted flashcards by priority "
             + "descending order!";
+    public static final String MESSAGE_SORTED_RATE_ASCENDING = "Sorted flashcards by correct rate "
+            + "ascending order!";
+    public static final String MESSAGE_SORTED_RATE_DESCENDING = "Sorted flashcards by correct rate "
+            + "descending order!";
+    public static final String MESSAGE_SORTED_MULTIPLE = "Sorted flashcards by %1$s!";
     public static final String MESSAGE_SORTED_INVALID = "Flashcards could not be sorted!";
 
-    private final SortOptions option;
+    private final List<SortOptions> options;
 
     public SortCommand(SortOptions option) {
-        this.option = option;
+        this(Collections.singletonList(option));
+    }
+
+    /**
+     * Creates a {@code SortCommand} that sorts by each of {@code options} in turn.
+     */
+    public SortCommand(List<SortOptions> options) {
+        requireNonNull(options);
+        this.options = options;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (options.size() > 1) {
+            model.sortFilteredFlashcardList(new FlashcardSortOrder(options));
+            return new CommandResult(String.format(MESSAGE_SORTED_MULTIPLE, options.stream()
+                    .map(option -> option.option.replaceFirst(" a$", " ascending").replaceFirst(" d$", " descending"))
+                    .collect(Collectors.joining(", then "))));
+        }
+
+        SortOptions option = options.get(0);
         model.sortFilteredFlashcardList(option);
         switch(option) {
         case PRIORITY_ASCENDING:
@@ -47,6 +74,10 @@ public class SortCommand extends Command {
             return new CommandResult(MESSAGE_SORTED_QUESTION_ASCENDING);
         case QUESTION_DESCENDING:
             return new CommandResult(MESSAGE_SORTED_QUESTION_DESCENDING);
+        case RATE_ASCENDING:
+            return new CommandResult(MESSAGE_SORTED_RATE_ASCENDING);
+        case RATE_DESCENDING:
+            return new CommandResult(MESSAGE_SORTED_RATE_DESCENDING);
         default:
             return new CommandResult(MESSAGE_SORTED_INVALID);
         }
@@ -56,7 +87,7 @@ public class SortCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof SortCommand
-                && option.equals(((SortCommand) other).option));
+                && options.equals(((SortCommand) other).options));
     }
 
 }
@@ -52,10 +52,10 @@ public class StatsCommand extends Command {
             Statistics cardStats = shownCard.getStats();
             assert(cardStats != null);
             assert(Statistics.isValidStats(cardStats));
-            return new CommandResult(MESSAGE_SHOW_CARD_STATS_SUCCESS, cardIndex, cardStats);
+            return new CommandResult(MESSAGE_SHOW_CARD_STATS_SUCCESS, Optional.of(shownCard), cardStats);
         } else {
-            Statistics listStats = new Statistics(cardList);
-            return new CommandResult(MESSAGE_SHOW_LIST_STATS_SUCCESS, cardIndex, listStats);
+            Statistics listStats = model.getFilteredFlashcardStatistics();
+            return new CommandResult(MESSAGE_SHOW_LIST_STATS_SUCCESS, Optional.empty(), listStats);
         }
     }
 
@@ -2,43 +2,51 @@ package seedu.flashback.logic.commands;
 
 import seedu.flashback.model.Model;
 import seedu.flashback.model.flashcard.Flashcard;
-import seedu.flashback.model.flashcard.Remark;
 import seedu.flashback.model.flashcard.Statistics;
 
 /**
  * A class representing the command to update statistics whenever the user reviews a flash card.
  */
 public class UpdateStatisticsCommand extends Command {
-    private static final String CORRECT_ANS_MSG = "The correct answer is provided. Good Job!";
-    private static final String WRONG_ANS_MSG = "An incorrect answer is provided. Try harder next time!";
+    public static final String CORRECT_ANS_MSG = "The correct answer is provided. Good Job!";
+    public static final String WRONG_ANS_MSG = "An incorrect answer is provided. Try harder next time!";
     private final Flashcard cardToUpdate;
     private final boolean isCorrect;
+    private final long reviewTime;
 
     /**
-     * Constructor of the UpdateStatisticsCommand.
+     * Constructor of the UpdateStatisticsCommand for a flash card reviewed now.
      *
      * @param cardToUpdate The reviewed flash card.
      * @param isCorrect Boolean variable representing whether the user got the correct answer or not.
      */
     public UpdateStatisticsCommand(Flashcard cardToUpdate, boolean isCorrect) {
+        this(cardToUpdate, isCorrect, System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor of the UpdateStatisticsCommand.
+     *
+     * @param cardToUpdate The reviewed flash card.
+     * @param isCorrect Boolean variable representing whether the user got the correct answer or not.
+     * @param reviewTime The time of the review in epoch milliseconds, from which the next review is scheduled.
+     */
+    public UpdateStatisticsCommand(Flashcard cardToUpdate, boolean isCorrect, long reviewTime) {
         this.cardToUpdate = cardToUpdate;
         this.isCorrect = isCorrect;
+        this.reviewTime = reviewTime;
     }
 
     @Override
     public CommandResult execute(Model model) {
         CommandResult commandResult;
-        Flashcard updatedCard;
-        Statistics updatedStats = cardToUpdate.getStats().incrementReviewCount();
+        Statistics updatedStats = cardToUpdate.getStats().review(isCorrect, reviewTime);
         if (isCorrect) {
-            updatedStats = updatedStats.incrementCorrectCount();
             commandResult = new CommandResult(CORRECT_ANS_MSG);
         } else {
             commandResult = new CommandResult(WRONG_ANS_MSG);
         }
-        updatedCard = new Flashcard(cardToUpdate.getQuestion(), cardToUpdate.getAnswer(), cardToUpdate.getCategory(),
-                cardToUpdate.getPriority(), new Remark(""), cardToUpdate.getTags(), updatedStats);
-        model.setFlashcard(cardToUpdate, updatedCard);
+        model.setFlashcard(cardToUpdate, cardToUpdate.withStats(updatedStats));
         return commandResult;
     }
 }
@@ -36,7 +36,7 @@ public class ViewCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
         }
         Flashcard viewCard = list.get(index.getZeroBased());
-        return new CommandResult(String.format(MESSAGE_VIEW_SUCCESS, viewCard), index.getZeroBased());
+        return new CommandResult(String.format(MESSAGE_VIEW_SUCCESS, viewCard), viewCard);
     }
 
     @Override
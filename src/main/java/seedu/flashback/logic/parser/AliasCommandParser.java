@@ -15,6 +15,8 @@ import seedu.flashback.logic.parser.exceptions.ParseException;
  */
 public class AliasCommandParser implements Parser<AliasCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ALIAS_COMMAND, PREFIX_ALIAS_NAME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AliasCommand
      * and returns an AliasCommand object for execution.
@@ -23,8 +25,7 @@ public class AliasCommandParser implements Parser<AliasCommand> {
     public AliasCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ALIAS_COMMAND,
-                PREFIX_ALIAS_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_ALIAS_COMMAND, PREFIX_ALIAS_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
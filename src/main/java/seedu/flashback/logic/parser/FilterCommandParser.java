@@ -20,6 +20,9 @@ import seedu.flashback.model.flashcard.FlashcardFilterPredicate;
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_QUESTION, PREFIX_CATEGORY, PREFIX_PRIORITY, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a correct FilterCommand object execution.
@@ -30,8 +33,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     public FilterCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_QUESTION,
-                PREFIX_CATEGORY, PREFIX_PRIORITY, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_QUESTION, PREFIX_PRIORITY, PREFIX_CATEGORY, PREFIX_TAG)
                 || !argMultimap.getPreamble().isEmpty()) {
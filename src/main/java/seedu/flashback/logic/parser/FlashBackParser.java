@@ -1,10 +1,12 @@
 package seedu.flashback.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.flashback.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.flashback.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.flashback.commons.util.AppUtil.checkArgument;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.flashback.logic.commands.AddCommand;
 import seedu.flashback.logic.commands.AliasCommand;
@@ -29,14 +31,21 @@ import seedu.flashback.model.ModelManager;
 
 /**
  * Parses user input.
+ *
+ * The command word of the input, or the command it is an alias of, is looked up in a table of parsers, and the rest
+ * of the input is handed to that parser. Parsers are stateless, so one instance of each serves every input.
+ * Further commands can be added to the table with {@link #registerCommand(String, Parser)}.
  */
 public class FlashBackParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command words must be a single word";
+
+    /** Parsers of the built-in commands, keyed by command word. */
+    private static final Map<String, Parser<? extends Command>> BUILT_IN_PARSERS = createBuiltInParsers();
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>(BUILT_IN_PARSERS);
     private Model model = new ModelManager();
+
     /**
      * Parses user input into command for execution.
      *
@@ -45,73 +54,72 @@ public class FlashBackParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        String commandWord = matcher.group("commandWord");
-        if (model.isAlias(commandWord)) {
-            commandWord = model.parseAlias(commandWord);
-        }
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-        //case RemarkCommand.COMMAND_WORD: return new RemarkCommandParser().parse(arguments);
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case ReviewCommand.COMMAND_WORD:
-            return new ReviewCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
+        // the arguments keep their leading whitespace, which marks the first prefix
+        final int commandWordEnd = findWhitespace(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
-        case StatsCommand.COMMAND_WORD:
-            return new StatsCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case AliasCommand.COMMAND_WORD:
-            return new AliasCommandParser().parse(arguments);
-
-        default:
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            parser = parsers.get(model.parseAlias(commandWord));
+        }
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands that start with {@code commandWord}, replacing the
+     * parser registered for it before, if any.
+     */
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isEmpty() && findWhitespace(commandWord) == commandWord.length(),
+                MESSAGE_INVALID_COMMAND_WORD);
+        parsers.put(commandWord, parser);
     }
 
     public void setModel(Model model) {
         this.model = model;
     }
 
+    /**
+     * Returns the index of the first whitespace character in {@code input}, or its length if there is none.
+     */
+    private static int findWhitespace(String input) {
+        int i = 0;
+        while (i < input.length() && !Character.isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Map<String, Parser<? extends Command>> createBuiltInParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        parsers.put(ReviewCommand.COMMAND_WORD, arguments -> new ReviewCommand());
+        parsers.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        parsers.put(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        parsers.put(StatsCommand.COMMAND_WORD, new StatsCommandParser());
+        parsers.put(SortCommand.COMMAND_WORD, new SortCommandParser());
+        parsers.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        parsers.put(AliasCommand.COMMAND_WORD, new AliasCommandParser());
+        return parsers;
+    }
+
 }
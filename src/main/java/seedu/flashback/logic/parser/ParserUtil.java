@@ -84,7 +84,7 @@ public class ParserUtil {
         if (!Priority.isValidPriority(trimmedPriority)) {
             throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
         }
-        return new Priority(trimmedPriority);
+        return Priority.of(trimmedPriority);
     }
 
     /**
@@ -99,7 +99,7 @@ public class ParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
     /**
@@ -114,7 +114,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -11,11 +11,13 @@ import seedu.flashback.logic.parser.exceptions.ParseException;
 import seedu.flashback.model.flashcard.Remark;
 
 public class RemarkCommandParser implements Parser<RemarkCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_REMARK);
+
     @Override
     public RemarkCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_REMARK);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         Index index;
         try {
@@ -2,6 +2,7 @@ package seedu.flashback.logic.parser;
 import static seedu.flashback.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.flashback.logic.parser.CliSyntax.PREFIX_FLAG;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.flashback.logic.commands.SortCommand;
@@ -9,26 +10,44 @@ import seedu.flashback.logic.parser.exceptions.ParseException;
 import seedu.flashback.model.flashcard.SortOptions;
 
 /**
- * Parses input arguments and creates a new SortCommand object
+ * Parses input arguments and creates a new SortCommand object.
+ * Each option is followed by its order flag, e.g. {@code priority -d rate -a}.
  */
 public class SortCommandParser implements Parser<SortCommand> {
+
     public static final String FLAG_ASCENDING = "a";
     public static final String FLAG_DESCENDING = "d";
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_FLAG);
+
     @Override
     public SortCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_FLAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(userInput);
         List<String> flagValueList = argMultimap.getAllValues(PREFIX_FLAG);
 
-        if (!argMultimap.getValue(PREFIX_FLAG).isPresent() || argMultimap.getPreamble().isEmpty()
-            || !ParserUtil.areValidFlagValues(flagValueList, FLAG_ASCENDING, FLAG_DESCENDING)) {
+        // every flag value but the last is followed by the next option, e.g. "d rate"
+        List<String> options = new ArrayList<>();
+        List<String> orders = new ArrayList<>();
+        options.add(argMultimap.getPreamble());
+        for (String flagValue : flagValueList) {
+            String[] orderAndNextOption = flagValue.split("\\s+", 2);
+            orders.add(orderAndNextOption[0]);
+            if (orderAndNextOption.length > 1) {
+                options.add(orderAndNextOption[1]);
+            }
+        }
+
+        if (flagValueList.isEmpty() || argMultimap.getPreamble().isEmpty() || options.size() != orders.size()
+            || !ParserUtil.areValidFlagValues(orders, FLAG_ASCENDING, FLAG_DESCENDING)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
         try {
-            SortOptions sortOption = ParserUtil.parseSortOptions(argMultimap.getPreamble(),
-                    argMultimap.getValue(PREFIX_FLAG).get());
-            return new SortCommand(sortOption);
+            List<SortOptions> sortOptions = new ArrayList<>();
+            for (int i = 0; i < options.size(); i++) {
+                sortOptions.add(ParserUtil.parseSortOptions(options.get(i), orders.get(i)));
+            }
+            return new SortCommand(sortOptions);
         } catch (ParseException e) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE), e);
@@ -1,8 +1,13 @@
 package seedu.flashback.model;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.flashback.logic.commands.AddCommand;
 import seedu.flashback.logic.commands.AliasCommand;
@@ -23,11 +28,15 @@ import seedu.flashback.logic.commands.ViewCommand;
 
 /**
  * Contains all mapping for command and alias.
+ * A command may have many aliases, and each alias stands for one command.
+ *
+ * The aliases of each command are kept together with the command of each alias, so that an alias is resolved or
+ * checked without going through every mapping. Only the aliases of each command are saved in the user prefs file.
  */
 public class AliasMap {
 
     public static final String ALPHANUMERICAL_REGEX = "\\p{Alnum}+";
-    private static final String[] commandsWord = {
+    private static final Set<String> COMMAND_WORDS = Set.of(
         AddCommand.COMMAND_WORD,
         AliasCommand.COMMAND_WORD,
         ClearCommand.COMMAND_WORD,
@@ -44,8 +53,8 @@ public class AliasMap {
         StatsCommand.COMMAND_WORD,
         UndoCommand.COMMAND_WORD,
         ViewCommand.COMMAND_WORD
-    };
-    private static final String[] reviewWords = {
+    );
+    private static final Set<String> REVIEW_WORDS = Set.of(
         "n",
         "p",
         "a",
@@ -53,26 +62,39 @@ public class AliasMap {
         "t",
         "f",
         "q"
-    };
-
-    private HashMap<String, String> aliasMap;
+    );
 
-    public AliasMap() {
-        aliasMap = new HashMap<>();
-    }
+    /** The aliases of each command, in the order they were added. */
+    private final Map<String, List<String>> aliasMap = new HashMap<>();
+    /** The command of each alias in {@code aliasMap}. */
+    private final transient Map<String, String> commandsByAlias = new HashMap<>();
+    /** Whether the saved aliases could not be read as aliases of commands. */
+    private transient boolean isMalformed;
 
-    public void setAliasMap(HashMap<String, String> aliasMap) {
-        this.aliasMap = aliasMap;
+    /**
+     * Adds the aliases read from the user prefs file. Each command maps to a list of aliases, or to a single alias as
+     * in files saved before a command could have more than one.
+     */
+    @JsonProperty("aliasMap")
+    private void setSavedAliases(Map<String, Object> savedAliases) {
+        for (Map.Entry<String, Object> entry : savedAliases.entrySet()) {
+            Object value = entry.getValue();
+            List<?> aliases = value instanceof List ? (List<?>) value : Collections.singletonList(value);
+            for (Object alias : aliases) {
+                if (alias instanceof String) {
+                    putAlias(entry.getKey(), (String) alias);
+                } else {
+                    isMalformed = true;
+                }
+            }
+        }
     }
 
     /**
      * Returns true if {@code addAlias()} can be added to flashback
      */
     public boolean canAddAlias(String command, String alias) {
-        if (aliasMap.containsKey(alias)) {
-            return false;
-        }
-        if (aliasMap.containsValue(alias)) {
+        if (isAlias(alias)) {
             return false;
         }
         if (isCommand(alias)) {
@@ -85,74 +107,83 @@ public class AliasMap {
     }
 
     /**
-     * Adds an alias into aliasMap
+     * Adds an alias into aliasMap. The aliases that {@code command} already has are kept.
      */
     public void addAlias(String command, String alias) {
         if (!canAddAlias(command, alias)) {
             throw new UnableToAddAliasException();
         }
-        if (aliasMap.containsKey(command)) {
-            aliasMap.replace(command, alias);
-        } else {
-            aliasMap.put(command, alias);
-        }
+        putAlias(command, alias);
+    }
+
+    /**
+     * Returns the aliases of {@code command}, in the order they were added.
+     */
+    public List<String> getAliases(String command) {
+        return Collections.unmodifiableList(aliasMap.getOrDefault(command, Collections.emptyList()));
     }
 
     /**
      * Parses alias to the command text
      */
     public String parseAlias(String input) {
-        if (!isAlias(input)) {
-            return input;
-        }
-        for (Map.Entry<String, String> entry: aliasMap.entrySet()) {
-            if (entry.getValue().equals(input)) {
-                return entry.getKey();
-            }
-        }
-        return input;
+        return commandsByAlias.getOrDefault(input, input);
     }
 
     /**
      * Returns true if input is an alias
      */
     public boolean isAlias(String input) {
-        return aliasMap.containsValue(input);
+        return commandsByAlias.containsKey(input);
     }
 
     /**
      * Returns true if input is a command
      */
     public boolean isCommand(String input) {
-        return Arrays.stream(commandsWord).anyMatch(c -> c.equals(input));
+        return COMMAND_WORDS.contains(input);
     }
 
     /**
      * Returns true if input is a review command
      */
     public boolean isReview(String input) {
-        return Arrays.stream(reviewWords).anyMatch(c -> c.equals(input));
+        return REVIEW_WORDS.contains(input);
     }
 
     /**
      * Returns true if aliasMap is corrupted
      */
     public boolean isCorrupted() {
-        for (Map.Entry<String, String> entry: aliasMap.entrySet()) {
-            if (!Arrays.asList(commandsWord).contains(entry.getKey())) {
-                return true;
-            }
-            if (Arrays.asList(commandsWord).contains(entry.getValue())) {
-                return true;
-            }
-            if (Arrays.asList(reviewWords).contains(entry.getValue())) {
+        if (isMalformed) {
+            return true;
+        }
+        for (Map.Entry<String, List<String>> entry: aliasMap.entrySet()) {
+            if (!isCommand(entry.getKey())) {
                 return true;
             }
-            if (!entry.getValue().matches(ALPHANUMERICAL_REGEX)) {
-                return true;
+            for (String alias : entry.getValue()) {
+                if (!entry.getKey().equals(commandsByAlias.get(alias))) {
+                    return true;
+                }
+                if (isCommand(alias) || isReview(alias)) {
+                    return true;
+                }
+                if (!alias.matches(ALPHANUMERICAL_REGEX)) {
+                    return true;
+                }
             }
         }
-        return false;
+        // an alias listed twice, under one command or two, is counted once by commandsByAlias
+        return aliasMap.values().stream().mapToInt(List::size).sum() != commandsByAlias.size();
+    }
+
+    /**
+     * Maps {@code alias} to {@code command} without checking that it can be added.
+     */
+    private void putAlias(String command, String alias) {
+        aliasMap.computeIfAbsent(command, unused -> new ArrayList<>()).add(alias);
+        commandsByAlias.put(alias, command);
     }
 
     @Override
@@ -3,10 +3,17 @@ package seedu.flashback.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.flashback.model.flashcard.ColumnarFlashcardStore;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.RunningStatistics;
+import seedu.flashback.model.flashcard.Statistics;
 import seedu.flashback.model.flashcard.UniqueFlashcardList;
+import seedu.flashback.model.flashcard.exceptions.FlashcardNotFoundException;
 
 /**
  * Wraps all data at the FlashBack level
@@ -15,6 +22,9 @@ import seedu.flashback.model.flashcard.UniqueFlashcardList;
 public class FlashBack implements ReadOnlyFlashBack {
 
     private final UniqueFlashcardList flashcards;
+    private final RunningStatistics statistics;
+    /** Columnar copy of the cards, built on demand and dropped whenever the cards change. Empty if it cannot be. */
+    private Optional<ColumnarFlashcardStore> columnarStore;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,6 +35,9 @@ public class FlashBack implements ReadOnlyFlashBack {
      */
     {
         flashcards = new UniqueFlashcardList();
+        statistics = new RunningStatistics(flashcards.asUnmodifiableObservableList());
+        flashcards.asUnmodifiableObservableList().addListener((ListChangeListener<Flashcard>) change ->
+                columnarStore = null);
     }
 
     public FlashBack() {}
@@ -73,6 +86,14 @@ public class FlashBack implements ReadOnlyFlashBack {
         flashcards.add(p);
     }
 
+    /**
+     * Inserts a card into FlashBack at {@code index}.
+     * The card must not already exist in FlashBack.
+     */
+    void addCard(int index, Flashcard p) {
+        flashcards.add(index, p);
+    }
+
     /**
      * Replaces the given card {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in FlashBack.
@@ -84,6 +105,46 @@ public class FlashBack implements ReadOnlyFlashBack {
         flashcards.setCard(target, editedFlashcard);
     }
 
+    /**
+     * Replaces the card at {@code index} with {@code editedFlashcard}.
+     * The card identity of {@code editedFlashcard} must not be the same as another existing card in FlashBack.
+     */
+    void setCard(int index, Flashcard editedFlashcard) {
+        flashcards.setCard(index, editedFlashcard);
+    }
+
+    /**
+     * Replaces every card that is a key of {@code editedFlashcards} with the card it maps to.
+     * All the cards are found in a single pass over the list, and none is replaced unless all of them exist.
+     * Cards are looked up with the key comparison of {@code editedFlashcards}.
+     */
+    public void setCards(Map<Flashcard, Flashcard> editedFlashcards) {
+        requireNonNull(editedFlashcards);
+        for (int index : indicesOfCards(editedFlashcards)) {
+            setCard(index, editedFlashcards.get(getCardList().get(index)));
+        }
+    }
+
+    /**
+     * Returns the positions of the keys of {@code cards} in the list, in ascending order.
+     *
+     * @throws FlashcardNotFoundException if a key is not in the list.
+     */
+    int[] indicesOfCards(Map<Flashcard, ?> cards) {
+        int[] indices = new int[cards.size()];
+        int found = 0;
+        ObservableList<Flashcard> cardList = getCardList();
+        for (int i = 0; i < cardList.size() && found < indices.length; i++) {
+            if (cards.containsKey(cardList.get(i))) {
+                indices[found++] = i;
+            }
+        }
+        if (found < indices.length) {
+            throw new FlashcardNotFoundException();
+        }
+        return indices;
+    }
+
     /**
      * Removes {@code key} from this {@code FlashBack}.
      * {@code key} must exist in FlashBack.
@@ -92,6 +153,13 @@ public class FlashBack implements ReadOnlyFlashBack {
         flashcards.remove(key);
     }
 
+    /**
+     * Removes the card at {@code index} from this {@code FlashBack} and returns it.
+     */
+    Flashcard removeCard(int index) {
+        return flashcards.remove(index);
+    }
+
     //// util methods
 
     @Override
@@ -105,6 +173,29 @@ public class FlashBack implements ReadOnlyFlashBack {
         return flashcards.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the total statistics of every card, which are kept up to date as cards change.
+     */
+    public Statistics getStatistics() {
+        return statistics.getStatistics();
+    }
+
+    /**
+     * Returns a columnar copy of the cards, for aggregations and filters that run over every card, or an empty
+     * {@code Optional} if the cards have too many tags between them to be held in columns.
+     * The copy is built on the first call after the cards change, and reused until they change again.
+     */
+    public Optional<ColumnarFlashcardStore> getColumnarStore() {
+        if (columnarStore == null) {
+            try {
+                columnarStore = Optional.of(new ColumnarFlashcardStore(getCardList()));
+            } catch (ArithmeticException e) {
+                columnarStore = Optional.empty();
+            }
+        }
+        return columnarStore;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,11 +2,14 @@ package seedu.flashback.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.flashback.commons.core.GuiSettings;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.ReviewQueue;
+import seedu.flashback.model.flashcard.Statistics;
 
 /**
  * The API of the Model component.
@@ -53,6 +56,31 @@ public interface Model {
     /** Returns the FlashBack */
     ReadOnlyFlashBack getFlashBack();
 
+    /**
+     * Returns the total statistics of every flash card in FlashBack.
+     */
+    Statistics getFlashBackStatistics();
+
+    /**
+     * Returns the total statistics of the flash cards in the filtered card list.
+     */
+    Statistics getFilteredFlashcardStatistics();
+
+    /**
+     * Returns true if FlashBack has been modified since it was last marked as saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Marks the current FlashBack data as saved.
+     */
+    void markFlashBackSaved();
+
+    /**
+     * Marks the current FlashBack data as not saved, e.g. because saving it failed after it was marked as saved.
+     */
+    void markFlashBackUnsaved();
+
     /**
      * Returns true if a flash card with the same identity as {@code flashcard} exists in FlashBack.
      */
@@ -77,9 +105,20 @@ public interface Model {
      */
     void setFlashcard(Flashcard target, Flashcard editedFlashcard);
 
-    /** Returns an unmodifiable view of the filtered card list */
+    /**
+     * Replaces every flash card that is a key of {@code editedFlashcards} with the flash card it maps to.
+     * Every key must exist in FlashBack. The cards are found in a single pass over FlashBack.
+     */
+    void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards);
+
+    /** Returns an unmodifiable view of the filtered card list, in the order of the last sort */
     ObservableList<Flashcard> getFilteredFlashcardList();
 
+    /**
+     * Returns the cards in the filtered card list, ordered by the time they are due for review.
+     */
+    ReviewQueue getReviewQueue();
+
     /**
      * Updates the filter of the filtered card list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -102,7 +141,9 @@ public interface Model {
     void undoFlashBack();
 
     /**
-     * Sorts the filtered flashcard list according to the supplied {@code comparator}
+     * Sorts the filtered flashcard list according to the supplied {@code comparator}.
+     * Only the view is sorted; the order of the cards in FlashBack is unchanged. The order is kept when the filter
+     * changes or cards are added.
      * @param comparator the supplied comparator
      */
     void sortFilteredFlashcardList(Comparator<Flashcard> comparator);
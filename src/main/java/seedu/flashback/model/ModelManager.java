@@ -1,30 +1,59 @@
 package seedu.flashback.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.flashback.commons.util.AppUtil.checkArgument;
 import static seedu.flashback.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.flashback.commons.core.GuiSettings;
 import seedu.flashback.commons.core.LogsCenter;
+import seedu.flashback.model.flashcard.ColumnarFlashcardStore;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.FlashcardContainsKeywordsPredicate;
+import seedu.flashback.model.flashcard.FlashcardFilterPredicate;
+import seedu.flashback.model.flashcard.FlashcardSearchIndex;
+import seedu.flashback.model.flashcard.ReviewQueue;
+import seedu.flashback.model.flashcard.RunningStatistics;
+import seedu.flashback.model.flashcard.Statistics;
 
 /**
  * Represents the in-memory model of the FlashBack data.
  */
 public class ModelManager implements Model {
+    /** Card count from which filters are evaluated in parallel, below it splitting the work costs more. */
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20_000;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedFlashBack versionedFlashBack;
     private final UserPrefs userPrefs;
     private final FilteredList<Flashcard> filteredFlashcards;
     private final SortedList<Flashcard> sortedFlashcards;
+    private final RunningStatistics filteredStatistics;
+    private final ReviewQueue reviewQueue;
+    private final FlashcardSearchIndex searchIndex = new FlashcardSearchIndex();
+    private boolean hasUnsavedChanges;
+    /** Whether the cards were filtered since they last changed, in which case they are likely filtered again. */
+    private boolean isFilteredSinceChange;
+    /** The filter last evaluated over columns and the indices of its matches, until the cards change. */
+    private Predicate<Flashcard> columnarFilter;
+    private int[] columnarMatchIndices;
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
 
     /**
      * Initializes a ModelManager with the given flashBack and userPrefs.
@@ -38,7 +67,17 @@ public class ModelManager implements Model {
         this.versionedFlashBack = new VersionedFlashBack(flashBack);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredFlashcards = new FilteredList<>(this.versionedFlashBack.getCardList());
-        sortedFlashcards = new SortedList<>(this.versionedFlashBack.getCardList());
+        sortedFlashcards = new SortedList<>(filteredFlashcards);
+        filteredStatistics = new RunningStatistics(filteredFlashcards);
+        reviewQueue = new ReviewQueue(filteredFlashcards);
+        this.versionedFlashBack.getCardList().addListener((ListChangeListener<Flashcard>) change -> {
+            hasUnsavedChanges = true;
+            isFilteredSinceChange = false;
+            columnarFilter = null;
+            columnarMatchIndices = null;
+        });
+        this.versionedFlashBack.getCardList().forEach(searchIndex::add);
+        this.versionedFlashBack.getCardList().addListener(this::updateSearchIndex);
     }
 
     public ModelManager() {
@@ -92,6 +131,43 @@ public class ModelManager implements Model {
         return versionedFlashBack;
     }
 
+    @Override
+    public Statistics getFlashBackStatistics() {
+        return versionedFlashBack.getStatistics();
+    }
+
+    /**
+     * Sums the statistics over the columnar copy of the cards if the filtered cards can be found in it, that is if
+     * every card is shown or the filter was evaluated over the columns. Otherwise returns the running totals.
+     */
+    @Override
+    public Statistics getFilteredFlashcardStatistics() {
+        Predicate<? super Flashcard> predicate = filteredFlashcards.getPredicate();
+        if (predicate == null) {
+            return versionedFlashBack.getColumnarStore().map(ColumnarFlashcardStore::getStatistics)
+                    .orElseGet(filteredStatistics::getStatistics);
+        } else if (predicate == columnarFilter) {
+            // the copy the filter was evaluated over is kept until the cards change, and so is the filter
+            return versionedFlashBack.getColumnarStore().get().getStatistics(columnarMatchIndices);
+        }
+        return filteredStatistics.getStatistics();
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    @Override
+    public void markFlashBackSaved() {
+        hasUnsavedChanges = false;
+    }
+
+    @Override
+    public void markFlashBackUnsaved() {
+        hasUnsavedChanges = true;
+    }
+
     @Override
     public boolean hasFlashcard(Flashcard flashcard) {
         requireNonNull(flashcard);
@@ -116,21 +192,130 @@ public class ModelManager implements Model {
         versionedFlashBack.setCard(target, editedFlashcard);
     }
 
+    @Override
+    public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+        requireNonNull(editedFlashcards);
+
+        versionedFlashBack.setCards(editedFlashcards);
+    }
+
     //=========== Filtered Flashcard List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Flashcard} backed by the internal list of
-     * {@code versionedFlashBack}
+     * {@code versionedFlashBack}, filtered and then sorted.
      */
     @Override
     public ObservableList<Flashcard> getFilteredFlashcardList() {
-        return filteredFlashcards;
+        return sortedFlashcards;
+    }
+
+    @Override
+    public ReviewQueue getReviewQueue() {
+        return reviewQueue;
     }
 
     @Override
     public void updateFilteredFlashcardList(Predicate<Flashcard> predicate) {
         requireNonNull(predicate);
-        filteredFlashcards.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_FLASHCARDS) {
+            // without a predicate the list shows every card as it is added, so showing all again changes nothing
+            if (filteredFlashcards.getPredicate() != null) {
+                filteredFlashcards.setPredicate(null);
+            }
+            return;
+        }
+
+        Predicate<Flashcard> effectivePredicate = predicate;
+        if (predicate instanceof FlashcardContainsKeywordsPredicate) {
+            // only evaluate the keywords on the cards that the index cannot rule out
+            effectivePredicate = searchIndex.getIndexedPredicate((FlashcardContainsKeywordsPredicate) predicate);
+        }
+        if (versionedFlashBack.getCardList().size() >= parallelFilterThreshold) {
+            // the columnar copy costs a few filters to build, so it is only built for cards filtered more than once
+            Optional<ColumnarFlashcardStore> columnarStore =
+                    predicate instanceof FlashcardFilterPredicate && isFilteredSinceChange
+                    ? versionedFlashBack.getColumnarStore()
+                    : Optional.empty();
+            effectivePredicate = columnarStore.isPresent()
+                    ? evaluateOnColumns(columnarStore.get(), (FlashcardFilterPredicate) predicate)
+                    : evaluateInParallel(effectivePredicate);
+        }
+        filteredFlashcards.setPredicate(effectivePredicate);
+        isFilteredSinceChange = true;
+    }
+
+    /**
+     * Sets the card count from which {@link #updateFilteredFlashcardList} evaluates predicates in parallel.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold >= 0, "Threshold should not be negative");
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    /**
+     * Evaluates {@code predicate} on every card across the common {@code ForkJoinPool}, and returns an equivalent
+     * predicate that looks the results up. The filtered list then applies the results in one change event.
+     * Cards added after this call are evaluated directly.
+     */
+    private Predicate<Flashcard> evaluateInParallel(Predicate<Flashcard> predicate) {
+        long evaluatedCount = searchIndex.getAddedCount();
+        Set<Flashcard> matches = Arrays.stream(versionedFlashBack.getCardList().toArray(new Flashcard[0]))
+                .parallel()
+                .filter(predicate)
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        logger.fine("Evaluated filter in parallel, " + matches.size() + " cards matched");
+
+        return lookUpMatches(matches, evaluatedCount, predicate);
+    }
+
+    /**
+     * Evaluates {@code predicate} over {@code columnarStore}, the columnar copy of the cards, and returns an equivalent
+     * predicate that looks the results up. The copy is reused by later filters until the cards change.
+     * Cards added after this call are evaluated directly.
+     */
+    private Predicate<Flashcard> evaluateOnColumns(ColumnarFlashcardStore columnarStore,
+            FlashcardFilterPredicate predicate) {
+        long evaluatedCount = searchIndex.getAddedCount();
+        ObservableList<Flashcard> cardList = versionedFlashBack.getCardList();
+        int[] matchIndices = columnarStore.filter(predicate);
+        Set<Flashcard> matches = Collections.newSetFromMap(new IdentityHashMap<>(matchIndices.length));
+        for (int index : matchIndices) {
+            matches.add(cardList.get(index));
+        }
+        logger.fine("Evaluated filter over columns, " + matches.size() + " cards matched");
+
+        columnarFilter = lookUpMatches(matches, evaluatedCount, predicate);
+        columnarMatchIndices = matchIndices;
+        return columnarFilter;
+    }
+
+    /**
+     * Returns a predicate that is true for the cards in {@code matches}, for cards indexed before
+     * {@code evaluatedCount}, and that evaluates {@code predicate} on cards indexed since.
+     */
+    private Predicate<Flashcard> lookUpMatches(Set<Flashcard> matches, long evaluatedCount,
+            Predicate<Flashcard> predicate) {
+        return flashcard -> searchIndex.isIndexedBefore(flashcard, evaluatedCount)
+                ? matches.contains(flashcard)
+                : predicate.test(flashcard);
+    }
+
+    /**
+     * Keeps {@code searchIndex} in sync with the card list.
+     * Cards that are removed and added back in the same change keep their index entries.
+     */
+    private void updateSearchIndex(ListChangeListener.Change<? extends Flashcard> change) {
+        while (change.next()) {
+            Set<Flashcard> removedCards = Collections.newSetFromMap(new IdentityHashMap<>());
+            removedCards.addAll(change.getRemoved());
+            for (Flashcard addedCard : change.getAddedSubList()) {
+                if (!removedCards.remove(addedCard)) {
+                    searchIndex.add(addedCard);
+                }
+            }
+            removedCards.forEach(searchIndex::remove);
+        }
     }
 
     @Override
@@ -149,7 +334,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedFlashBack.equals(other.versionedFlashBack)
                 && userPrefs.equals(other.userPrefs)
-                && filteredFlashcards.equals(other.filteredFlashcards);
+                && sortedFlashcards.equals(other.sortedFlashcards);
     }
 
     @Override
@@ -177,11 +362,13 @@ public class ModelManager implements Model {
         versionedFlashBack.redo();
     }
 
+    /**
+     * Sorts the view only, in one pass over the filtered cards. FlashBack keeps its order, so nothing is saved.
+     */
     @Override
     public void sortFilteredFlashcardList(Comparator<Flashcard> comparator) {
         requireNonNull(comparator);
         sortedFlashcards.setComparator(comparator);
-        versionedFlashBack.setFlashcards(sortedFlashcards);
     }
 
     @Override
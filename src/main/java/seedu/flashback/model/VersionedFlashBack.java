@@ -1,7 +1,15 @@
 package seedu.flashback.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.flashback.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.exceptions.FlashcardNotFoundException;
 
 
 /*
@@ -11,35 +19,133 @@ https://github.com/se-edu/addressbook-level4/blob/master/src/main/java/seedu/add
 with minor modification
  */
 /**
- * {@code FlashBack} with states tracking for undo
+ * {@code FlashBack} with states tracking for undo.
+ *
+ * Instead of copying the whole deck on every commit, only the changes made since the previous commit are recorded.
+ * The flash cards themselves are immutable, so every recorded change shares its cards with the live deck.
+ * At most {@code maxHistorySize} commits are kept; older ones are dropped and can no longer be undone.
  */
 public class VersionedFlashBack extends FlashBack {
 
-    private final List<ReadOnlyFlashBack> flashBackStates;
+    public static final int DEFAULT_MAX_HISTORY_SIZE = 100;
+
+    private final List<List<Change>> flashBackChanges = new ArrayList<>();
+    private final List<Change> pendingChanges = new ArrayList<>();
+    private final int maxHistorySize;
     private int currentStatePointer;
 
     /**
      * Creates a VersionedFlashBack using the cards in the {@code toBeCopied}
      */
     public VersionedFlashBack(ReadOnlyFlashBack toBeCopied) {
-        super(toBeCopied);
+        this(toBeCopied, DEFAULT_MAX_HISTORY_SIZE);
+    }
 
-        flashBackStates = new ArrayList<>();
-        flashBackStates.add(new FlashBack(toBeCopied));
+    /**
+     * Creates a VersionedFlashBack using the cards in the {@code toBeCopied} that keeps at most
+     * {@code maxHistorySize} undoable commits.
+     */
+    public VersionedFlashBack(ReadOnlyFlashBack toBeCopied, int maxHistorySize) {
+        super();
+        assert maxHistorySize > 0;
+        this.maxHistorySize = maxHistorySize;
+        resetData(toBeCopied);
+        pendingChanges.clear();
         currentStatePointer = 0;
     }
 
+    //// recorded operations
+
+    @Override
+    public void setFlashcards(List<Flashcard> flashcards) {
+        List<Flashcard> previousCards = new ArrayList<>(getCardList());
+        super.setFlashcards(flashcards);
+        List<Flashcard> newCards = new ArrayList<>(getCardList());
+        if (!newCards.equals(previousCards)) {
+            pendingChanges.add(new ReplaceChange(previousCards, newCards));
+        }
+    }
+
+    @Override
+    public void addCard(Flashcard p) {
+        requireNonNull(p);
+        int index = getCardList().size();
+        super.addCard(p);
+        pendingChanges.add(new AddChange(index, p));
+    }
+
+    @Override
+    public void setCard(Flashcard target, Flashcard editedFlashcard) {
+        requireAllNonNull(target, editedFlashcard);
+        int index = indexOfCard(target);
+        Flashcard previousCard = getCardList().get(index);
+        super.setCard(index, editedFlashcard);
+        pendingChanges.add(new SetChange(index, previousCard, editedFlashcard));
+    }
+
+    @Override
+    public void setCards(Map<Flashcard, Flashcard> editedFlashcards) {
+        requireNonNull(editedFlashcards);
+        for (int index : indicesOfCards(editedFlashcards)) {
+            Flashcard previousCard = getCardList().get(index);
+            Flashcard editedCard = editedFlashcards.get(previousCard);
+            super.setCard(index, editedCard);
+            pendingChanges.add(new SetChange(index, previousCard, editedCard));
+        }
+    }
+
+    @Override
+    public void removeCard(Flashcard key) {
+        requireNonNull(key);
+        int index = indexOfCard(key);
+        Flashcard removedCard = super.removeCard(index);
+        pendingChanges.add(new RemoveChange(index, removedCard));
+    }
+
+    private int indexOfCard(Flashcard flashcard) {
+        int index = getCardList().indexOf(flashcard);
+        if (index == -1) {
+            throw new FlashcardNotFoundException();
+        }
+        return index;
+    }
+
+    //// history operations
+
     /**
      * Saves updated state of FlashBack into the list of states
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        flashBackStates.add(new FlashBack(this));
+        flashBackChanges.add(new ArrayList<>(pendingChanges));
+        pendingChanges.clear();
         currentStatePointer++;
+
+        if (flashBackChanges.size() > maxHistorySize) {
+            flashBackChanges.remove(0);
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Replaces the card list without recording the change.
+     */
+    private void replaceFlashcards(List<Flashcard> flashcards) {
+        super.setFlashcards(flashcards);
     }
 
     private void removeStatesAfterCurrentPointer() {
-        flashBackStates.subList(currentStatePointer + 1, flashBackStates.size()).clear();
+        flashBackChanges.subList(currentStatePointer, flashBackChanges.size()).clear();
+    }
+
+    /**
+     * Reverts all changes that have not been committed yet.
+     */
+    private void discardPendingChanges() {
+        for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+            pendingChanges.get(i).undo(this);
+        }
+        pendingChanges.clear();
     }
 
     /**
@@ -49,8 +155,12 @@ public class VersionedFlashBack extends FlashBack {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardPendingChanges();
         currentStatePointer--;
-        resetData(flashBackStates.get(currentStatePointer));
+        List<Change> changes = flashBackChanges.get(currentStatePointer);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo(this);
+        }
     }
 
     /**
@@ -64,7 +174,7 @@ public class VersionedFlashBack extends FlashBack {
      * Returns true if {@code redo()} has flashback states to redo
      */
     public boolean canRedo() {
-        return currentStatePointer < flashBackStates.size() - 1;
+        return currentStatePointer < flashBackChanges.size();
     }
 
     /**
@@ -74,15 +184,18 @@ public class VersionedFlashBack extends FlashBack {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardPendingChanges();
+        for (Change change : flashBackChanges.get(currentStatePointer)) {
+            change.redo(this);
+        }
         currentStatePointer++;
-        resetData(flashBackStates.get(currentStatePointer));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof VersionedFlashBack // instanceof handles nulls
-                && flashBackStates.equals(((VersionedFlashBack) other).flashBackStates)
+                && flashBackChanges.equals(((VersionedFlashBack) other).flashBackChanges)
                 && currentStatePointer == ((VersionedFlashBack) other).currentStatePointer
                 && super.equals((VersionedFlashBack) other));
     }
@@ -98,5 +211,161 @@ public class VersionedFlashBack extends FlashBack {
             super("Current state pointer at end of flashBackStates list, unable to redo");
         }
     }
+
+    /**
+     * A single recorded modification of the card list that can be reverted and reapplied.
+     */
+    private interface Change {
+        void undo(VersionedFlashBack flashBack);
+
+        void redo(VersionedFlashBack flashBack);
+    }
+
+    /**
+     * Insertion of a card at a position.
+     */
+    private static class AddChange implements Change {
+        private final int index;
+        private final Flashcard addedCard;
+
+        AddChange(int index, Flashcard addedCard) {
+            this.index = index;
+            this.addedCard = addedCard;
+        }
+
+        @Override
+        public void undo(VersionedFlashBack flashBack) {
+            flashBack.removeCard(index);
+        }
+
+        @Override
+        public void redo(VersionedFlashBack flashBack) {
+            flashBack.addCard(index, addedCard);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof AddChange
+                    && index == ((AddChange) other).index
+                    && addedCard.equals(((AddChange) other).addedCard));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, addedCard);
+        }
+    }
+
+    /**
+     * Removal of the card at a position.
+     */
+    private static class RemoveChange implements Change {
+        private final int index;
+        private final Flashcard removedCard;
+
+        RemoveChange(int index, Flashcard removedCard) {
+            this.index = index;
+            this.removedCard = removedCard;
+        }
+
+        @Override
+        public void undo(VersionedFlashBack flashBack) {
+            flashBack.addCard(index, removedCard);
+        }
+
+        @Override
+        public void redo(VersionedFlashBack flashBack) {
+            flashBack.removeCard(index);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof RemoveChange
+                    && index == ((RemoveChange) other).index
+                    && removedCard.equals(((RemoveChange) other).removedCard));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removedCard);
+        }
+    }
+
+    /**
+     * Replacement of the card at a position.
+     */
+    private static class SetChange implements Change {
+        private final int index;
+        private final Flashcard previousCard;
+        private final Flashcard editedCard;
+
+        SetChange(int index, Flashcard previousCard, Flashcard editedCard) {
+            this.index = index;
+            this.previousCard = previousCard;
+            this.editedCard = editedCard;
+        }
+
+        @Override
+        public void undo(VersionedFlashBack flashBack) {
+            flashBack.setCard(index, previousCard);
+        }
+
+        @Override
+        public void redo(VersionedFlashBack flashBack) {
+            flashBack.setCard(index, editedCard);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof SetChange
+                    && index == ((SetChange) other).index
+                    && previousCard.equals(((SetChange) other).previousCard)
+                    && editedCard.equals(((SetChange) other).editedCard));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, previousCard, editedCard);
+        }
+    }
+
+    /**
+     * Replacement of the whole card list, e.g. by a clear. Only the card references are held.
+     */
+    private static class ReplaceChange implements Change {
+        private final List<Flashcard> previousCards;
+        private final List<Flashcard> newCards;
+
+        ReplaceChange(List<Flashcard> previousCards, List<Flashcard> newCards) {
+            this.previousCards = previousCards;
+            this.newCards = newCards;
+        }
+
+        @Override
+        public void undo(VersionedFlashBack flashBack) {
+            flashBack.replaceFlashcards(previousCards);
+        }
+
+        @Override
+        public void redo(VersionedFlashBack flashBack) {
+            flashBack.replaceFlashcards(newCards);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof ReplaceChange
+                    && previousCards.equals(((ReplaceChange) other).previousCards)
+                    && newCards.equals(((ReplaceChange) other).newCards));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(previousCards, newCards);
+        }
+    }
 }
 //@@author
@@ -3,9 +3,14 @@ package seedu.flashback.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashback.commons.util.AppUtil.checkArgument;
 
+import seedu.flashback.commons.util.Interner;
+
 /**
  * Represents a Flashcard's category in the Flashback.
  * Guarantees: immutable; is valid as declared in {@link #isValidCategory(String)}
+ *
+ * Categories that are held by many cards should be created with {@link #of(String)}, which shares one instance per
+ * value.
  */
 public class Category {
 
@@ -13,6 +18,8 @@ public class Category {
             "Categories can take any values, must not be longer than 30 characters and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Category> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -26,6 +33,15 @@ public class Category {
         value = category;
     }
 
+    /**
+     * Returns the shared {@code Category} of {@code category}.
+     *
+     * @param category A valid category.
+     */
+    public static Category of(String category) {
+        return INTERNER.intern(new Category(category));
+    }
+
     /**
      * Returns if a given string is a valid category.
      */
@@ -0,0 +1,314 @@
+package seedu.flashback.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.flashback.model.tag.Tag;
+import seedu.flashback.model.tag.TagSet;
+
+/**
+ * A read-only copy of a list of flash cards, held column by column rather than as one object graph per card.
+ * Guarantees: immutable; the card at each index is equal to the card at that index of the copied list.
+ *
+ * Questions, answers and remarks are indices into one table of distinct texts. Categories and priorities are
+ * codes into dictionaries, the tags of each card are a bitset over a dictionary of tags, and the statistics are
+ * held in primitive arrays. Aggregations and filters run as loops over these arrays, and a {@code Flashcard} is
+ * only built when it is asked for with {@link #get(int)}.
+ */
+public class ColumnarFlashcardStore {
+
+    private static final int NO_TEXT = -1;
+    private static final Priority.Level[] LEVELS = Priority.Level.values();
+    private static final String[] LOWER_CASE_PRIORITIES = Arrays.stream(LEVELS)
+            .map(level -> level.getValue().toLowerCase()).toArray(String[]::new);
+
+    private final int size;
+
+    /** Distinct texts of the question, answer and remark columns. */
+    private final String[] texts;
+    private final int[] questionIds;
+    private final int[] lowerCaseQuestionIds;
+    private final int[] answerIds;
+    private final int[] remarkIds;
+
+    private final Category[] categories;
+    private final String[] lowerCaseCategories;
+    private final int[] categoryCodes;
+    private final byte[] priorityCodes;
+
+    private final Tag[] tags;
+    private final String[] lowerCaseTags;
+    /** Number of words in the tag bitset of each card. */
+    private final int tagWords;
+    /** The tag bitsets of every card, {@code tagWords} words per card. */
+    private final long[] tagBits;
+
+    private final int[] reviewCounts;
+    private final int[] correctCounts;
+    private final long[] dueTimes;
+    private final int[] easeFactors;
+    private final int[] intervals;
+    private final int[] repetitions;
+
+    /**
+     * Creates a columnar copy of {@code flashcards}.
+     *
+     * @throws ArithmeticException If the tag bitsets of the cards have more words than an array can hold.
+     */
+    public ColumnarFlashcardStore(List<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        size = flashcards.size();
+
+        // cards with the same tags share one tag set, so each bitset is computed once per tag combination
+        Map<Category, Integer> categoryCodesByCategory = new HashMap<>();
+        Map<Set<Tag>, long[]> tagBitsByTagSet = new IdentityHashMap<>();
+        Map<Tag, Integer> tagIndices = new HashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            categoryCodesByCategory.putIfAbsent(flashcard.getCategory(), categoryCodesByCategory.size());
+            if (tagBitsByTagSet.putIfAbsent(flashcard.getTags(), null) == null) {
+                flashcard.getTags().forEach(tag -> tagIndices.putIfAbsent(tag, tagIndices.size()));
+            }
+        }
+        categories = new Category[categoryCodesByCategory.size()];
+        categoryCodesByCategory.forEach((category, code) -> categories[code] = category);
+        lowerCaseCategories = Arrays.stream(categories).map(category -> category.value.toLowerCase())
+                .toArray(String[]::new);
+        tags = new Tag[tagIndices.size()];
+        tagIndices.forEach((tag, index) -> tags[index] = tag);
+        lowerCaseTags = Arrays.stream(tags).map(tag -> tag.tagName.toLowerCase()).toArray(String[]::new);
+        tagWords = (tags.length + Long.SIZE - 1) / Long.SIZE;
+        tagBitsByTagSet.replaceAll((tagSet, unused) -> {
+            long[] bits = new long[tagWords];
+            for (Tag tag : tagSet) {
+                int tagIndex = tagIndices.get(tag);
+                bits[tagIndex / Long.SIZE] |= 1L << tagIndex;
+            }
+            return bits;
+        });
+
+        TextTable textTable = new TextTable();
+        questionIds = new int[size];
+        lowerCaseQuestionIds = new int[size];
+        answerIds = new int[size];
+        remarkIds = new int[size];
+        categoryCodes = new int[size];
+        priorityCodes = new byte[size];
+        tagBits = new long[Math.multiplyExact(size, tagWords)];
+        reviewCounts = new int[size];
+        correctCounts = new int[size];
+        dueTimes = new long[size];
+        easeFactors = new int[size];
+        intervals = new int[size];
+        repetitions = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            Flashcard flashcard = flashcards.get(i);
+            // questions are unique and answers nearly so, so only remarks are looked up in the table
+            questionIds[i] = textTable.append(flashcard.getQuestion().fullQuestion);
+            lowerCaseQuestionIds[i] = textTable.append(flashcard.getSearchKeys().question);
+            answerIds[i] = textTable.append(flashcard.getAnswer().value);
+            remarkIds[i] = flashcard.getRemark() == null ? NO_TEXT : textTable.add(flashcard.getRemark().value);
+            categoryCodes[i] = categoryCodesByCategory.get(flashcard.getCategory());
+            priorityCodes[i] = (byte) flashcard.getPriority().getLevel().ordinal();
+            System.arraycopy(tagBitsByTagSet.get(flashcard.getTags()), 0, tagBits, i * tagWords, tagWords);
+
+            Statistics stats = flashcard.getStats();
+            reviewCounts[i] = stats.getReviewCount();
+            correctCounts[i] = stats.getCorrectCount();
+            dueTimes[i] = stats.getDueTime();
+            easeFactors[i] = stats.getEaseFactor();
+            intervals[i] = stats.getInterval();
+            repetitions[i] = stats.getRepetitions();
+        }
+        texts = textTable.toArray();
+    }
+
+    /**
+     * Returns the number of cards in this store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Builds the card at {@code index}. Categories, priorities and tag sets are shared with the other cards.
+     */
+    public Flashcard get(int index) {
+        Objects.checkIndex(index, size);
+        List<Tag> cardTags = new ArrayList<>();
+        for (int word = 0; word < tagWords; word++) {
+            long bits = tagBits[index * tagWords + word];
+            while (bits != 0) {
+                cardTags.add(tags[word * Long.SIZE + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        Remark remark = remarkIds[index] == NO_TEXT ? null : new Remark(texts[remarkIds[index]]);
+
+        return new Flashcard(new Question(texts[questionIds[index]]), new Answer(texts[answerIds[index]]),
+                categories[categoryCodes[index]], Priority.of(LEVELS[priorityCodes[index]].getValue()), remark,
+                TagSet.of(cardTags), getStats(index));
+    }
+
+    /**
+     * Returns the statistics of the card at {@code index}.
+     */
+    public Statistics getStats(int index) {
+        Objects.checkIndex(index, size);
+        return new Statistics(reviewCounts[index], correctCounts[index], dueTimes[index], easeFactors[index],
+                intervals[index], repetitions[index]);
+    }
+
+    /**
+     * Returns the total statistics of every card.
+     */
+    public Statistics getStatistics() {
+        int reviewCount = 0;
+        int correctCount = 0;
+        for (int i = 0; i < size; i++) {
+            reviewCount += reviewCounts[i];
+            correctCount += correctCounts[i];
+        }
+        return new Statistics(reviewCount, correctCount);
+    }
+
+    /**
+     * Returns the total statistics of the cards at {@code indices}.
+     */
+    public Statistics getStatistics(int[] indices) {
+        requireNonNull(indices);
+        int reviewCount = 0;
+        int correctCount = 0;
+        for (int index : indices) {
+            reviewCount += reviewCounts[index];
+            correctCount += correctCounts[index];
+        }
+        return new Statistics(reviewCount, correctCount);
+    }
+
+    /**
+     * Returns the number of cards that are due for review at {@code time}, in epoch milliseconds.
+     */
+    public int countDue(long time) {
+        int dueCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (dueTimes[i] <= time) {
+                dueCount++;
+            }
+        }
+        return dueCount;
+    }
+
+    /**
+     * Returns the indices of the cards that match {@code predicate}, in ascending order.
+     *
+     * The category, priority and tag keywords are matched once against each dictionary entry rather than once per
+     * card. Keywords are single words, so a keyword found in the tags of a card is found in one of its tags.
+     */
+    public int[] filter(FlashcardFilterPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> questionKeywords = predicate.getLowerCaseQuestions();
+        boolean[] isCategoryMatch = matchKeywords(lowerCaseCategories, predicate.getLowerCaseCategories());
+        boolean[] isPriorityMatch = matchKeywords(LOWER_CASE_PRIORITIES, predicate.getLowerCasePriorities());
+        long[] tagMask = toTagMask(matchKeywords(lowerCaseTags, predicate.getLowerCaseTags()));
+
+        int[] matches = new int[size];
+        int matchCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (isCategoryMatch != null && !isCategoryMatch[categoryCodes[i]]) {
+                continue;
+            }
+            if (isPriorityMatch != null && !isPriorityMatch[priorityCodes[i]]) {
+                continue;
+            }
+            if (tagMask != null && !hasAnyTag(i, tagMask)) {
+                continue;
+            }
+            if (!FlashcardFilterPredicate.containsAnyKeyword(texts[lowerCaseQuestionIds[i]], questionKeywords)) {
+                continue;
+            }
+            matches[matchCount++] = i;
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Returns whether each of {@code lowerCaseValues} contains any of {@code lowerCaseKeywords}, or null if there
+     * are no keywords, in which case every value matches.
+     */
+    private static boolean[] matchKeywords(String[] lowerCaseValues, List<String> lowerCaseKeywords) {
+        if (lowerCaseKeywords.isEmpty()) {
+            return null;
+        }
+        boolean[] isMatch = new boolean[lowerCaseValues.length];
+        for (int i = 0; i < lowerCaseValues.length; i++) {
+            isMatch[i] = FlashcardFilterPredicate.containsAnyKeyword(lowerCaseValues[i], lowerCaseKeywords);
+        }
+        return isMatch;
+    }
+
+    /**
+     * Returns the bitset of the tags that match, or null if every tag set matches.
+     */
+    private long[] toTagMask(boolean[] isTagMatch) {
+        if (isTagMatch == null) {
+            return null;
+        }
+        long[] tagMask = new long[tagWords];
+        for (int i = 0; i < isTagMatch.length; i++) {
+            if (isTagMatch[i]) {
+                tagMask[i / Long.SIZE] |= 1L << i;
+            }
+        }
+        return tagMask;
+    }
+
+    private boolean hasAnyTag(int index, long[] tagMask) {
+        for (int word = 0; word < tagWords; word++) {
+            if ((tagBits[index * tagWords + word] & tagMask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects texts and numbers them in the order they are added.
+     */
+    private static class TextTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> texts = new ArrayList<>();
+
+        /**
+         * Adds {@code text} without checking whether it is in the table already.
+         */
+        int append(String text) {
+            texts.add(text);
+            return texts.size() - 1;
+        }
+
+        /**
+         * Adds {@code text} unless an equal text was added with this method before, and returns its number.
+         */
+        int add(String text) {
+            Integer id = ids.putIfAbsent(text, texts.size());
+            if (id != null) {
+                return id;
+            }
+            texts.add(text);
+            return texts.size() - 1;
+        }
+
+        String[] toArray() {
+            return texts.toArray(new String[0]);
+        }
+    }
+}
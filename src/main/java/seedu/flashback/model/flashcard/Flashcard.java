@@ -1,13 +1,13 @@
 package seedu.flashback.model.flashcard;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.flashback.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.flashback.model.tag.Tag;
+import seedu.flashback.model.tag.TagSet;
 
 /**
  * Represents a flash card in FlashBack.
@@ -22,10 +22,13 @@ public class Flashcard {
 
     // Data fields
     private final Priority priority;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Remark remark;
     private final Statistics stats;
 
+    // Computed on first search, all fields of the keys are final so sharing them across threads is safe
+    private FlashcardSearchKeys searchKeys;
+
     /**
      * Constructs a {@code Flashcard} where statistics is initialized to 0 review count and 0 correct count.
      * Every field must be present and not null.
@@ -38,7 +41,7 @@ public class Flashcard {
         this.category = category;
         this.priority = priority;
         this.remark = remark;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.stats = new Statistics();
     }
 
@@ -54,10 +57,26 @@ public class Flashcard {
         this.category = category;
         this.priority = priority;
         this.remark = remark;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.stats = stats;
     }
 
+    /**
+     * Constructs a copy of {@code source} with statistics equal to the parameter {@code stats}.
+     * The copy shares the tag set and search keys of {@code source}, as neither changes after construction.
+     */
+    private Flashcard(Flashcard source, Statistics stats) {
+        requireNonNull(stats);
+        this.question = source.question;
+        this.answer = source.answer;
+        this.category = source.category;
+        this.priority = source.priority;
+        this.remark = source.remark;
+        this.tags = source.tags;
+        this.stats = stats;
+        this.searchKeys = source.searchKeys;
+    }
+
     public Question getQuestion() {
         return question;
     }
@@ -74,16 +93,39 @@ public class Flashcard {
         return priority;
     }
 
+    public Remark getRemark() {
+        return remark;
+    }
+
     public Statistics getStats() {
         return stats;
     }
 
+    /**
+     * Returns a copy of this card with its statistics replaced by {@code stats}.
+     */
+    public Flashcard withStats(Statistics stats) {
+        return new Flashcard(this, stats);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is shared with every card that has the same tags.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns the lowercase search keys of this card, computing them on first use.
+     */
+    FlashcardSearchKeys getSearchKeys() {
+        FlashcardSearchKeys keys = searchKeys;
+        if (keys == null) {
+            keys = new FlashcardSearchKeys(this);
+            searchKeys = keys;
+        }
+        return keys;
     }
 
     /**
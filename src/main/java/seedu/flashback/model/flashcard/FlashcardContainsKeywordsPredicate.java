@@ -5,14 +5,15 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.flashback.commons.util.CollectionUtil;
 import seedu.flashback.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Flashcard}'s {@code fields} matches any of the keywords given.
+ * Keywords are converted to lowercase once and matched against the card's cached lowercase search keys.
  */
 public class FlashcardContainsKeywordsPredicate implements Predicate<Flashcard> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
     /**
      * Creates a FlashcardContainsKeywordsPredicate with list of keywords to match.
      *
@@ -21,25 +22,24 @@ public class FlashcardContainsKeywordsPredicate implements Predicate<Flashcard>
     public FlashcardContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWords(keywords);
+    }
+
+    List<String> getLowerCaseKeywords() {
+        return lowerCaseKeywords;
     }
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getQuestion().fullQuestion, keyword))
-                || keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getAnswer().value, keyword))
-                || keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getCategory().value, keyword))
-                || keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getPriority().value, keyword))
-                || keywords.stream()
-                .anyMatch(keyword -> CollectionUtil
-                        .tagContainsPartWordIgnoreCase(flashcard.getTags(), keyword));
+        FlashcardSearchKeys searchKeys = flashcard.getSearchKeys();
+        for (String keyword : lowerCaseKeywords) {
+            if (searchKeys.question.contains(keyword) || searchKeys.answer.contains(keyword)
+                    || searchKeys.category.contains(keyword) || searchKeys.priority.contains(keyword)
+                    || searchKeys.tags.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
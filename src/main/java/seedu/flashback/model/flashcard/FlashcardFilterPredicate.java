@@ -5,17 +5,21 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.flashback.commons.util.CollectionUtil;
 import seedu.flashback.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Flashcard}'s fields matches the keywords given.
+ * Keywords are converted to lowercase once and matched against the card's cached lowercase search keys.
  */
 public class FlashcardFilterPredicate implements Predicate<Flashcard> {
     private final List<String> questions;
     private final List<String> categories;
     private final List<String> priorities;
     private final List<String> tags;
+    private final List<String> lowerCaseQuestions;
+    private final List<String> lowerCaseCategories;
+    private final List<String> lowerCasePriorities;
+    private final List<String> lowerCaseTags;
 
     /**
      * Constructs a FlashcardFilterPredicate object with the given keyword list for questions, categories
@@ -36,36 +40,50 @@ public class FlashcardFilterPredicate implements Predicate<Flashcard> {
         this.categories = categories;
         this.priorities = priorities;
         this.tags = tags;
+        this.lowerCaseQuestions = StringUtil.toLowerCaseWords(questions);
+        this.lowerCaseCategories = StringUtil.toLowerCaseWords(categories);
+        this.lowerCasePriorities = StringUtil.toLowerCaseWords(priorities);
+        this.lowerCaseTags = StringUtil.toLowerCaseWords(tags);
     }
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return testQuestions(flashcard) && testCategories(flashcard)
-                && testPriorities(flashcard) && testTags(flashcard);
+        FlashcardSearchKeys searchKeys = flashcard.getSearchKeys();
+        return containsAnyKeyword(searchKeys.question, lowerCaseQuestions)
+                && containsAnyKeyword(searchKeys.category, lowerCaseCategories)
+                && containsAnyKeyword(searchKeys.priority, lowerCasePriorities)
+                && containsAnyKeyword(searchKeys.tags, lowerCaseTags);
     }
 
-    private boolean testQuestions(Flashcard flashcard) {
-        return questions.isEmpty() || questions.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getQuestion().fullQuestion, keyword));
+    List<String> getLowerCaseQuestions() {
+        return lowerCaseQuestions;
     }
 
-    private boolean testCategories(Flashcard flashcard) {
-        return categories.isEmpty() || categories.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getCategory().value, keyword));
+    List<String> getLowerCaseCategories() {
+        return lowerCaseCategories;
     }
 
-    private boolean testPriorities(Flashcard flashcard) {
-        return priorities.isEmpty() || priorities.stream()
-                .anyMatch(keyword -> StringUtil
-                        .sentenceContainsPartWordIgnoreCase(flashcard.getPriority().value, keyword));
+    List<String> getLowerCasePriorities() {
+        return lowerCasePriorities;
     }
 
-    private boolean testTags(Flashcard flashcard) {
-        return tags.isEmpty() || tags.stream()
-                .anyMatch(keyword -> CollectionUtil
-                        .tagContainsPartWordIgnoreCase(flashcard.getTags(), keyword));
+    List<String> getLowerCaseTags() {
+        return lowerCaseTags;
+    }
+
+    /**
+     * Returns true if {@code lowerCaseKeywords} is empty or {@code searchKey} contains any of them.
+     */
+    static boolean containsAnyKeyword(String searchKey, List<String> lowerCaseKeywords) {
+        if (lowerCaseKeywords.isEmpty()) {
+            return true;
+        }
+        for (String keyword : lowerCaseKeywords) {
+            if (searchKey.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,164 @@
+package seedu.flashback.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the trigrams of every searchable field of a flash card to the cards containing them.
+ * Searchable fields are the question, answer, category, priority and tags, compared case-insensitively.
+ *
+ * A keyword can only be contained in a field if every trigram of the keyword is in the field, so intersecting
+ * the cards of those trigrams gives a small set of candidates. Candidates are then verified with the original
+ * predicate, so the index never changes which cards match.
+ *
+ * Cards are tracked by reference, as every card in the list is a distinct object.
+ */
+public class FlashcardSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Flashcard>> postings = new HashMap<>();
+    /** The order in which each indexed card was added, used to tell which cards a search has already seen. */
+    private final Map<Flashcard, Long> addedOrder = new IdentityHashMap<>();
+    private long addedCount;
+
+    /**
+     * Adds {@code flashcard} to the index. Does nothing if it is already indexed.
+     */
+    public void add(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        if (addedOrder.containsKey(flashcard)) {
+            return;
+        }
+
+        addedOrder.put(flashcard, addedCount++);
+        for (long gram : getGrams(flashcard)) {
+            postings.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(flashcard);
+        }
+    }
+
+    /**
+     * Removes {@code flashcard} from the index. Does nothing if it is not indexed.
+     */
+    public void remove(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        if (addedOrder.remove(flashcard) == null) {
+            return;
+        }
+
+        for (long gram : getGrams(flashcard)) {
+            Set<Flashcard> cards = postings.get(gram);
+            cards.remove(flashcard);
+            if (cards.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code flashcard} is indexed.
+     */
+    public boolean contains(Flashcard flashcard) {
+        return addedOrder.containsKey(flashcard);
+    }
+
+    /**
+     * Returns the number of cards added to the index so far, to be passed to {@link #isIndexedBefore}.
+     */
+    public long getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Returns true if {@code flashcard} is indexed and was added before the first {@code addedCount} cards
+     * were added, i.e. it was already in the list when {@link #getAddedCount()} returned {@code addedCount}.
+     */
+    public boolean isIndexedBefore(Flashcard flashcard, long addedCount) {
+        Long order = addedOrder.get(flashcard);
+        return order != null && order < addedCount;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only evaluates {@code predicate} on the cards
+     * that the index cannot rule out. Cards indexed after this call are always evaluated.
+     */
+    public Predicate<Flashcard> getIndexedPredicate(FlashcardContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Flashcard> candidates = getCandidates(predicate.getLowerCaseKeywords());
+        if (candidates == null) {
+            return predicate;
+        }
+
+        long searchedCount = addedCount;
+        return flashcard -> (!isIndexedBefore(flashcard, searchedCount) || candidates.contains(flashcard))
+                && predicate.test(flashcard);
+    }
+
+    /**
+     * Returns the cards that may contain any of {@code lowerCaseKeywords}, or null if a keyword is too short to be
+     * looked up and every card has to be checked.
+     */
+    private Set<Flashcard> getCandidates(List<String> lowerCaseKeywords) {
+        Set<Flashcard> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : lowerCaseKeywords) {
+            if (keyword.length() < GRAM_LENGTH) {
+                return null;
+            }
+            candidates.addAll(getCandidates(keyword));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the cards that contain every trigram of {@code keyword}.
+     */
+    private Set<Flashcard> getCandidates(String keyword) {
+        List<Set<Flashcard>> cardsOfGrams = new ArrayList<>();
+        for (long gram : getGrams(keyword, new HashSet<>())) {
+            Set<Flashcard> cards = postings.get(gram);
+            if (cards == null) {
+                return Collections.emptySet();
+            }
+            cardsOfGrams.add(cards);
+        }
+        cardsOfGrams.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+        Set<Flashcard> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(cardsOfGrams.get(0));
+        for (int i = 1; i < cardsOfGrams.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(cardsOfGrams.get(i));
+        }
+        return candidates;
+    }
+
+    private static Set<Long> getGrams(Flashcard flashcard) {
+        FlashcardSearchKeys searchKeys = flashcard.getSearchKeys();
+        Set<Long> grams = new HashSet<>();
+        getGrams(searchKeys.question, grams);
+        getGrams(searchKeys.answer, grams);
+        getGrams(searchKeys.category, grams);
+        getGrams(searchKeys.priority, grams);
+        getGrams(searchKeys.tags, grams);
+        return grams;
+    }
+
+    /**
+     * Adds every trigram of {@code text} to {@code grams}, packing its three characters into one {@code long}.
+     */
+    private static Set<Long> getGrams(String text, Set<Long> grams) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.flashback.model.flashcard;
+
+import seedu.flashback.commons.util.CollectionUtil;
+
+/**
+ * Lowercase copies of the searchable fields of a {@code Flashcard}, for case-insensitive keyword matching.
+ * Guarantees: immutable.
+ */
+class FlashcardSearchKeys {
+
+    public final String question;
+    public final String answer;
+    public final String category;
+    public final String priority;
+    /** Every tag name, each followed by a space. */
+    public final String tags;
+
+    /**
+     * Computes the search keys of {@code flashcard}.
+     */
+    FlashcardSearchKeys(Flashcard flashcard) {
+        question = flashcard.getQuestion().fullQuestion.toLowerCase();
+        answer = flashcard.getAnswer().value.toLowerCase();
+        category = flashcard.getCategory().value.toLowerCase();
+        priority = flashcard.getPriority().value.toLowerCase();
+        tags = CollectionUtil.tagsToString(flashcard.getTags());
+    }
+}
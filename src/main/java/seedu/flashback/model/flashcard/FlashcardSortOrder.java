@@ -0,0 +1,64 @@
+package seedu.flashback.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashback.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders flash cards by several {@code SortOptions} in turn, e.g. by priority, then correct rate, then question.
+ * Cards that are equal by every option are ordered by question, so no two cards in FlashBack are ever equal.
+ */
+public class FlashcardSortOrder implements Comparator<Flashcard> {
+
+    public static final String MESSAGE_EMPTY_ORDER = "Sort order must have at least one option";
+
+    private final List<SortOptions> options;
+    /** {@code options} followed by a question tiebreak, unless they already order by question. */
+    private final SortOptions[] keys;
+
+    /**
+     * Creates an order that compares cards by each of {@code options} in turn.
+     */
+    public FlashcardSortOrder(List<SortOptions> options) {
+        requireNonNull(options);
+        checkArgument(!options.isEmpty(), MESSAGE_EMPTY_ORDER);
+        this.options = Collections.unmodifiableList(new ArrayList<>(options));
+
+        List<SortOptions> keyList = new ArrayList<>(options);
+        if (!keyList.contains(SortOptions.QUESTION_ASCENDING) && !keyList.contains(SortOptions.QUESTION_DESCENDING)) {
+            keyList.add(SortOptions.QUESTION_ASCENDING);
+        }
+        keys = keyList.toArray(new SortOptions[0]);
+    }
+
+    public List<SortOptions> getOptions() {
+        return options;
+    }
+
+    @Override
+    public int compare(Flashcard o1, Flashcard o2) {
+        for (SortOptions key : keys) {
+            int result = key.compare(o1, o2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FlashcardSortOrder // instanceof handles nulls
+                && options.equals(((FlashcardSortOrder) other).options)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return options.hashCode();
+    }
+}
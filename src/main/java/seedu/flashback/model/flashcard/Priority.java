@@ -6,18 +6,54 @@ import static seedu.flashback.commons.util.AppUtil.checkArgument;
 /**
  * Represents a flash card's priority in FlashBack.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriority(String)}
+ *
+ * A priority is backed by its {@link Level}, so priorities are compared by ordinal rather than by name.
+ * {@link #value} holds the name of the level, which is how the priority is stored and displayed.
+ * {@link #of(String)} returns the one shared priority of each level.
  */
-public class Priority {
+public class Priority implements Comparable<Priority> {
 
     public static final String MESSAGE_CONSTRAINTS = "Priorities can only be High, Mid or Low";
 
-    /*
-     * The first character of the priority must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
+    /**
+     * The levels of priority, from lowest to highest.
      */
+    public enum Level {
+        LOW("Low"), MID("Mid"), HIGH("High");
+
+        private final String value;
+
+        Level(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the level named {@code value}, or null if there is none.
+         */
+        private static Level fromValue(String value) {
+            switch (value) {
+            case "Low":
+                return LOW;
+            case "Mid":
+                return MID;
+            case "High":
+                return HIGH;
+            default:
+                return null;
+            }
+        }
+    }
 
+    private static final Priority[] SHARED_PRIORITIES = {
+        new Priority(Level.LOW.getValue()), new Priority(Level.MID.getValue()), new Priority(Level.HIGH.getValue())
+    };
 
     public final String value;
+    private final Level level;
 
     /**
      * Constructs an {@code Priority}.
@@ -26,15 +62,40 @@ public class Priority {
      */
     public Priority(String priority) {
         requireNonNull(priority);
-        checkArgument(isValidPriority(priority), MESSAGE_CONSTRAINTS);
-        value = priority;
+        level = Level.fromValue(priority);
+        checkArgument(level != null, MESSAGE_CONSTRAINTS);
+        value = level.getValue();
+    }
+
+    /**
+     * Returns the shared {@code Priority} of {@code priority}.
+     *
+     * @param priority A valid priority.
+     */
+    public static Priority of(String priority) {
+        requireNonNull(priority);
+        Level level = Level.fromValue(priority);
+        checkArgument(level != null, MESSAGE_CONSTRAINTS);
+        return SHARED_PRIORITIES[level.ordinal()];
     }
 
     /**
      * Returns true if a given string is a valid priority.
      */
     public static boolean isValidPriority(String test) {
-        return test.equals("High") || test.equals("Mid") || test.equals("Low");
+        return Level.fromValue(test) != null;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Orders priorities from lowest to highest.
+     */
+    @Override
+    public int compareTo(Priority other) {
+        return level.compareTo(other.level);
     }
 
     @Override
@@ -46,7 +107,7 @@ public class Priority {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Priority // instanceof handles nulls
-                && value.equals(((Priority) other).value)); // state check
+                && level == ((Priority) other).level); // state check
     }
 
     @Override
@@ -0,0 +1,104 @@
+package seedu.flashback.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A priority queue of the cards in an {@code ObservableList}, ordered by the time they are due for review.
+ * Cards due at the same time keep the order in which they were added to the queue.
+ *
+ * The queue follows the list as it changes, so finding the cards that are due only ever visits the cards that are
+ * due, rather than every card in the list.
+ */
+public class ReviewQueue implements ListChangeListener<Flashcard> {
+
+    private static final Comparator<Entry> DUE_ORDER = Comparator.<Entry>comparingLong(entry -> entry.dueTime)
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final TreeSet<Entry> entries = new TreeSet<>(DUE_ORDER);
+    /** The entry of each queued card, tracked by reference as every card in the list is a distinct object. */
+    private final Map<Flashcard, Entry> entryOfCard = new IdentityHashMap<>();
+    private long addedCount;
+
+    /**
+     * Creates a {@code ReviewQueue} that follows {@code flashcards}.
+     */
+    public ReviewQueue(ObservableList<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        flashcards.forEach(this::add);
+        flashcards.addListener(this);
+    }
+
+    /**
+     * Removes every card of the change before adding any, so that cards moved within the list stay queued.
+     */
+    @Override
+    public void onChanged(Change<? extends Flashcard> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the cards that are due at {@code time}, earliest due first.
+     * Only the due cards are visited, so this takes O(log n + d) time for {@code d} due cards.
+     */
+    public List<Flashcard> getDue(long time) {
+        List<Flashcard> dueCards = new ArrayList<>();
+        for (Entry entry : entries.headSet(new Entry(null, time, Long.MAX_VALUE), true)) {
+            dueCards.add(entry.flashcard);
+        }
+        return dueCards;
+    }
+
+    /**
+     * Returns the number of queued cards.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void add(Flashcard flashcard) {
+        if (entryOfCard.containsKey(flashcard)) {
+            return;
+        }
+        Entry entry = new Entry(flashcard, flashcard.getStats().getDueTime(), addedCount++);
+        entries.add(entry);
+        entryOfCard.put(flashcard, entry);
+    }
+
+    private void remove(Flashcard flashcard) {
+        Entry entry = entryOfCard.remove(flashcard);
+        if (entry != null) {
+            entries.remove(entry);
+        }
+    }
+
+    /**
+     * The position of a card in the queue.
+     */
+    private static class Entry {
+        private final Flashcard flashcard;
+        private final long dueTime;
+        private final long sequence;
+
+        private Entry(Flashcard flashcard, long dueTime, long sequence) {
+            this.flashcard = flashcard;
+            this.dueTime = dueTime;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.flashback.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps the total {@code Statistics} of the cards in an {@code ObservableList} up to date as the list changes.
+ * Each change only adjusts the totals by the cards that were removed or added, so the totals never have to be
+ * recomputed from every card.
+ */
+public class RunningStatistics implements ListChangeListener<Flashcard> {
+
+    private int reviewCount;
+    private int correctCount;
+
+    /**
+     * Creates a {@code RunningStatistics} that follows {@code flashcards}.
+     */
+    public RunningStatistics(ObservableList<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        flashcards.forEach(this::add);
+        flashcards.addListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Flashcard> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the total statistics of the cards currently in the list.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(reviewCount, correctCount);
+    }
+
+    private void add(Flashcard flashcard) {
+        reviewCount += flashcard.getStats().getReviewCount();
+        correctCount += flashcard.getStats().getCorrectCount();
+    }
+
+    private void remove(Flashcard flashcard) {
+        reviewCount -= flashcard.getStats().getReviewCount();
+        correctCount -= flashcard.getStats().getCorrectCount();
+    }
+}
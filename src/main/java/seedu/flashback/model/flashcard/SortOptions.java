@@ -20,58 +20,25 @@ public enum SortOptions implements Comparator<Flashcard> {
     PRIORITY_ASCENDING("priority a") {
         @Override
         public int compare(Flashcard o1, Flashcard o2) {
-            String p1 = o1.getPriority().value;
-            String p2 = o2.getPriority().value;
-            if (p1.equals("High")) {
-                if (p2.equals("High")) {
-                    return 0;
-                } else {
-                    return 1;
-                }
-            } else if (p1.equals("Mid")) {
-                if (p2.equals("High")) {
-                    return -1;
-                } else if (p2.equals("Mid")) {
-                    return 0;
-                } else {
-                    return 1;
-                }
-            } else {
-                if (p1.equals(p2)) {
-                    return 0;
-                } else {
-                    return -1;
-                }
-            }
-
+            return o1.getPriority().compareTo(o2.getPriority());
         }
     },
     PRIORITY_DESCENDING("priority d") {
         @Override
         public int compare(Flashcard o1, Flashcard o2) {
-            String p1 = o1.getPriority().value;
-            String p2 = o2.getPriority().value;
-            if (p1.equals("High")) {
-                if (p2.equals("High")) {
-                    return 0;
-                } else {
-                    return -1;
-                }
-            } else if (p1.equals("Mid")) {
-                if (p2.equals("High")) {
-                    return 1;
-                } else if (p2.equals("Mid")) {
-                    return 0;
-                } else {
-                    return -1;
-                }
-            } else {
-                if (p1.equals(p2)) {
-                    return 0;
-                } else {
-                    return 1;
-                }
-            }
+            return o2.getPriority().compareTo(o1.getPriority());
+        }
+    },
+    RATE_ASCENDING("rate a") {
+        @Override
+        public int compare(Flashcard o1, Flashcard o2) {
+            return Double.compare(o1.getStats().getCorrectRate(), o2.getStats().getCorrectRate());
+        }
+    },
+    RATE_DESCENDING("rate d") {
+        @Override
+        public int compare(Flashcard o1, Flashcard o2) {
+            return Double.compare(o2.getStats().getCorrectRate(), o1.getStats().getCorrectRate());
         }
     };
 
@@ -2,24 +2,48 @@ package seedu.flashback.model.flashcard;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents statistics of flash card(s) in FlashBack.
+ *
+ * Besides the review and correct counts, the statistics of a flash card hold its spaced-repetition schedule,
+ * which is updated with the SM-2 algorithm every time the card is reviewed.
  */
 public class Statistics {
     public static final String MESSAGE_CONSTRAINT = "Flash card(s) review count and correct count should be "
-            + "positive integers, the correct count should be less than or equal to the review count";
+            + "positive integers, the correct count should be less than or equal to the review count. "
+            + "The review schedule should not be negative and the ease factor should be at least 1.3";
+
+    /** Ease factors are stored in thousandths, so 2500 stands for an ease factor of 2.5. */
+    public static final int DEFAULT_EASE_FACTOR = 2500;
+    public static final int MIN_EASE_FACTOR = 1300;
+    /** Upper bound of the review interval in days, which keeps due times far from overflowing. */
+    public static final int MAX_INTERVAL = 36500;
+
+    /** SM-2 response qualities given to correct and wrong answers, on a scale from 0 to 5. */
+    private static final int CORRECT_QUALITY = 4;
+    private static final int WRONG_QUALITY = 2;
+
     private final int reviewCount;
     private final int correctCount;
+    /** Time in epoch milliseconds from which the card is due for review, 0 for cards never reviewed. */
+    private final long dueTime;
+    private final int easeFactor;
+    /** Number of days between the last review and the due time. */
+    private final int interval;
+    /** Number of correct answers in a row. */
+    private final int repetitions;
+    /** Computed once, as sorting by correct rate reads it on every comparison. */
+    private final double correctRate;
 
     /**
      * Constructs a {@code Statistics}.
      *
-     * Review count and correct count are initialized to 0.
+     * Review count and correct count are initialized to 0, and the card is due for review immediately.
      */
     public Statistics() {
-        this.reviewCount = 0;
-        this.correctCount = 0;
+        this(0, 0);
     }
 
     /**
@@ -30,8 +54,28 @@ public class Statistics {
      * @param correctCount The number of times the user got the correct answer in review mode.
      */
     public Statistics(int reviewCount, int correctCount) {
+        this(reviewCount, correctCount, 0, DEFAULT_EASE_FACTOR, 0, 0);
+    }
+
+    /**
+     * Constructs a {@code Statistics} with the review schedule specified in the parameters.
+     *
+     * @param reviewCount The number of times the flash card is reviewed.
+     * @param correctCount The number of times the user got the correct answer in review mode.
+     * @param dueTime The time in epoch milliseconds from which the flash card is due for review.
+     * @param easeFactor The SM-2 ease factor of the flash card, in thousandths.
+     * @param interval The number of days between the last review and the due time.
+     * @param repetitions The number of correct answers in a row.
+     */
+    public Statistics(int reviewCount, int correctCount, long dueTime, int easeFactor, int interval,
+                      int repetitions) {
         this.reviewCount = reviewCount;
         this.correctCount = correctCount;
+        this.dueTime = dueTime;
+        this.easeFactor = easeFactor;
+        this.interval = interval;
+        this.repetitions = repetitions;
+        this.correctRate = computeCorrectRate(reviewCount, correctCount);
     }
 
     /**
@@ -49,22 +93,30 @@ public class Statistics {
         }
         this.reviewCount = reviewCount;
         this.correctCount = correctCount;
+        this.dueTime = 0;
+        this.easeFactor = DEFAULT_EASE_FACTOR;
+        this.interval = 0;
+        this.repetitions = 0;
+        this.correctRate = computeCorrectRate(reviewCount, correctCount);
     }
 
     /**
      * Tests whether the statistics if valid or not.
      *
      * @param stats The statistics to test for validity.
-     * @return false if the correct/review count is negative, or if the correct count is greater than the review count.
-     *         true otherwise.
+     * @return false if the correct/review count is negative, if the correct count is greater than the review count,
+     *         or if the schedule is out of range. true otherwise.
      */
     public static boolean isValidStats(Statistics stats) {
         if (stats.getCorrectCount() < 0 || stats.getReviewCount() < 0) {
             return false;
         } else if (stats.getCorrectCount() > stats.getReviewCount()) {
             return false;
+        } else if (stats.getDueTime() < 0 || stats.getInterval() < 0 || stats.getInterval() > MAX_INTERVAL
+                || stats.getRepetitions() < 0) {
+            return false;
         } else {
-            return true;
+            return stats.getEaseFactor() >= MIN_EASE_FACTOR;
         }
     }
 
@@ -72,14 +124,49 @@ public class Statistics {
      * Increments the review count by 1.
      */
     public Statistics incrementReviewCount() {
-        return new Statistics(reviewCount + 1, correctCount);
+        return new Statistics(reviewCount + 1, correctCount, dueTime, easeFactor, interval, repetitions);
     }
 
     /**
      * Increments the correct count by 1.
      */
     public Statistics incrementCorrectCount() {
-        return new Statistics(reviewCount, correctCount + 1);
+        return new Statistics(reviewCount, correctCount + 1, dueTime, easeFactor, interval, repetitions);
+    }
+
+    /**
+     * Records a review and schedules the next one with the SM-2 algorithm.
+     * A correct answer lengthens the interval by the ease factor, after intervals of 1 and 6 days.
+     * A wrong answer lowers the ease factor and brings the card back after 1 day.
+     *
+     * @param isCorrect Whether the user got the correct answer.
+     * @param reviewTime The time of the review in epoch milliseconds.
+     * @return The statistics after the review.
+     */
+    public Statistics review(boolean isCorrect, long reviewTime) {
+        int quality = isCorrect ? CORRECT_QUALITY : WRONG_QUALITY;
+        int newInterval;
+        int newRepetitions;
+        if (!isCorrect) {
+            newInterval = 1;
+            newRepetitions = 0;
+        } else if (repetitions == 0) {
+            newInterval = 1;
+            newRepetitions = 1;
+        } else if (repetitions == 1) {
+            newInterval = 6;
+            newRepetitions = 2;
+        } else {
+            newInterval = (int) Math.min(MAX_INTERVAL, Math.round((double) interval * easeFactor / 1000));
+            newRepetitions = repetitions + 1;
+        }
+
+        int missedQuality = 5 - quality;
+        int newEaseFactor = Math.max(MIN_EASE_FACTOR,
+                easeFactor + 100 - missedQuality * (80 + missedQuality * 20));
+        long newDueTime = reviewTime + TimeUnit.DAYS.toMillis(newInterval);
+        return new Statistics(reviewCount + 1, isCorrect ? correctCount + 1 : correctCount, newDueTime,
+                newEaseFactor, newInterval, newRepetitions);
     }
 
     /**
@@ -100,6 +187,29 @@ public class Statistics {
         return correctCount;
     }
 
+    public long getDueTime() {
+        return dueTime;
+    }
+
+    public int getEaseFactor() {
+        return easeFactor;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    /**
+     * Returns true if the flash card is due for review at {@code time}, in epoch milliseconds.
+     */
+    public boolean isDue(long time) {
+        return dueTime <= time;
+    }
+
     /**
      * Gets the rate where the user got the correct answer during review mode.
      *
@@ -107,6 +217,10 @@ public class Statistics {
      *           otherwise return the percentage of times where user got the correct answer in review mode.
      */
     public double getCorrectRate() {
+        return correctRate;
+    }
+
+    private static double computeCorrectRate(int reviewCount, int correctCount) {
         if (reviewCount == 0) {
             return 0.0;
         } else {
@@ -121,7 +235,11 @@ public class Statistics {
         } else if (other instanceof Statistics) {
             Statistics otherStatistics = (Statistics) other;
             return otherStatistics.getReviewCount() == this.getReviewCount()
-                    && otherStatistics.getCorrectCount() == this.getCorrectCount();
+                    && otherStatistics.getCorrectCount() == this.getCorrectCount()
+                    && otherStatistics.getDueTime() == this.getDueTime()
+                    && otherStatistics.getEaseFactor() == this.getEaseFactor()
+                    && otherStatistics.getInterval() == this.getInterval()
+                    && otherStatistics.getRepetitions() == this.getRepetitions();
         } else {
             return false;
         }
@@ -129,7 +247,7 @@ public class Statistics {
 
     @Override
     public int hashCode() {
-        return Objects.hash(reviewCount, correctCount);
+        return Objects.hash(reviewCount, correctCount, dueTime, easeFactor, interval, repetitions);
     }
 
     @Override
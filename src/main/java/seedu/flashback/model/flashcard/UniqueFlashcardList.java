@@ -3,8 +3,12 @@ package seedu.flashback.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashback.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,9 @@ import seedu.flashback.model.flashcard.exceptions.FlashcardNotFoundException;
  * unique in terms of identity in the UniqueFlashcardList. However, the removal of a card uses Flashcard#equals(Object)
  * so as to ensure that the card with exactly the same fields will be removed.
  *
+ * Cards are also indexed by their {@code Question} so that duplicate checks do not need to scan the whole list.
+ * The index is kept in sync with the backing list on every mutation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Flashcard#isSameCard(Flashcard)
@@ -27,13 +34,14 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
     private final ObservableList<Flashcard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Question, Flashcard> questionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent card as the given argument.
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCard);
+        return questionIndex.containsKey(toCheck.getQuestion());
     }
 
     /**
@@ -41,11 +49,20 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      * The card must not already exist in the list.
      */
     public void add(Flashcard toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a card into the list at {@code index}.
+     * The card must not already exist in the list.
+     */
+    public void add(int index, Flashcard toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateFlashcardException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        questionIndex.put(toAdd.getQuestion(), toAdd);
     }
 
     /**
@@ -61,11 +78,24 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
             throw new FlashcardNotFoundException();
         }
 
+        setCard(index, editedFlashcard);
+    }
+
+    /**
+     * Replaces the card at {@code index} in the list with {@code editedFlashcard}.
+     * The card identity of {@code editedFlashcard} must not be the same as another existing card in the list.
+     */
+    public void setCard(int index, Flashcard editedFlashcard) {
+        requireNonNull(editedFlashcard);
+        Flashcard target = internalList.get(index);
+
         if (!target.isSameCard(editedFlashcard) && contains(editedFlashcard)) {
             throw new DuplicateFlashcardException();
         }
 
         internalList.set(index, editedFlashcard);
+        questionIndex.remove(target.getQuestion());
+        questionIndex.put(editedFlashcard.getQuestion(), editedFlashcard);
     }
 
     /**
@@ -77,11 +107,23 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
         if (!internalList.remove(toRemove)) {
             throw new FlashcardNotFoundException();
         }
+        questionIndex.remove(toRemove.getQuestion());
+    }
+
+    /**
+     * Removes the card at {@code index} from the list and returns it.
+     */
+    public Flashcard remove(int index) {
+        Flashcard removed = internalList.remove(index);
+        questionIndex.remove(removed.getQuestion());
+        return removed;
     }
 
     public void setCards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        questionIndex.clear();
+        questionIndex.putAll(replacement.questionIndex);
     }
 
     /**
@@ -95,6 +137,10 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
         }
 
         internalList.setAll(flashcards);
+        questionIndex.clear();
+        for (Flashcard flashcard : flashcards) {
+            questionIndex.put(flashcard.getQuestion(), flashcard);
+        }
     }
 
     /**
@@ -125,11 +171,10 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      * Returns true if {@code flashcards} contains only unique cards.
      */
     private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).isSameCard(flashcards.get(j))) {
-                    return false;
-                }
+        Set<Question> seenQuestions = new HashSet<>();
+        for (Flashcard flashcard : flashcards) {
+            if (!seenQuestions.add(flashcard.getQuestion())) {
+                return false;
             }
         }
         return true;
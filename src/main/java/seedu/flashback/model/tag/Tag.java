@@ -3,15 +3,21 @@ package seedu.flashback.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashback.commons.util.AppUtil.checkArgument;
 
+import seedu.flashback.commons.util.Interner;
+
 /**
  * Represents a Tag in the FlashBack.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags that are held by many cards should be created with {@link #of(String)}, which shares one instance per name.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +31,22 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to {@code tag}.
+     */
+    static Tag intern(Tag tag) {
+        return INTERNER.intern(tag);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
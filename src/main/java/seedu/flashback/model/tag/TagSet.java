@@ -0,0 +1,112 @@
+package seedu.flashback.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.flashback.commons.util.Interner;
+
+/**
+ * An immutable set of tags, held in an array sorted by tag name.
+ * Guarantees: immutable; every tag is interned as by {@link Tag#of(String)}
+ *
+ * A deck has far fewer distinct tag combinations than cards, so tag sets are interned with {@link #of(Collection)}
+ * and cards with the same tags share one set. Equal to any other {@code Set} with the same tags.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final Interner<TagSet> INTERNER = new Interner<>();
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        // the hash code of any set is the sum of the hash codes of its elements
+        this.hashCode = Arrays.stream(tags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns the tag set that holds the tags of {@code tags}, shared with every other card that has the same tags.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.stream().map(Tag::intern).distinct().sorted(TAG_NAME_ORDER)
+                .toArray(Tag[]::new);
+        return INTERNER.intern(new TagSet(sortedTags));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && Arrays.binarySearch(tags, (Tag) o, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return List.of(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return other == this || Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.flashback.model.util;
+
+import static seedu.flashback.commons.util.AppUtil.checkArgument;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.flashcard.Answer;
+import seedu.flashback.model.flashcard.Category;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Priority;
+import seedu.flashback.model.flashcard.Question;
+import seedu.flashback.model.flashcard.Remark;
+import seedu.flashback.model.flashcard.Statistics;
+import seedu.flashback.model.tag.Tag;
+
+/**
+ * Generates synthetic FlashBack decks of any size for load and soak testing.
+ *
+ * A deck is fully determined by its size, seed and reference time, and each card is generated from its position
+ * alone, so the same deck can be iterated any number of times without being held in memory. Saving it with
+ * {@code saveFlashcards} of a storage therefore writes a deck of a million cards without a second copy of it.
+ *
+ * Question and answer lengths are skewed towards short texts with a long tail, categories and tags follow a
+ * Zipf-like distribution, and review statistics come from replaying SM-2 reviews up to the reference time.
+ */
+public class DeckGenerator implements Iterable<Flashcard> {
+
+    public static final String MESSAGE_INVALID_SIZE = "Deck size must not be negative";
+    /** 2021-01-01T00:00:00Z, so that decks do not depend on when they are generated. */
+    public static final long DEFAULT_REFERENCE_TIME = 1609459200000L;
+
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private static final String[] WORDS = {"the", "of", "what", "is", "a", "in", "which", "how", "does", "and",
+        "why", "function", "energy", "reaction", "algorithms", "cell", "equation", "war", "theory", "force",
+        "market", "river", "sorting", "protein", "empire", "graph", "velocity", "molecule", "treaty", "poem",
+        "complexity", "climate", "gene", "inflation", "orbit", "matrix", "acid", "revolution", "symphony", "tree"};
+    private static final String[] CATEGORIES = {"Computer Science", "Chemistry 101", "Physics 101", "Biology 101",
+        "History", "Mathematics", "Geography", "Economics", "Literature", "Music Theory", "Statistics",
+        "Spanish Vocabulary", "Japanese Kanji", "Anatomy", "Law", "Philosophy", "Astronomy", "Art History"};
+    private static final String[] TAGS = {"definition", "formula", "theorem", "date", "runtime", "mechanics",
+        "cells", "map", "quote", "graph", "vocabulary", "grammar", "organic", "proof", "person", "capital",
+        "exam", "midterm", "lecture1", "lecture2", "lecture3", "hard", "revise", "tutorial", "lab", "diagram",
+        "acronym", "unit", "law", "example"};
+    private static final Priority[] PRIORITIES = {Priority.of("High"), Priority.of("Mid"), Priority.of("Low")};
+    private static final double[] PRIORITY_WEIGHTS = {0.2, 0.5, 0.3};
+    /** Probabilities of a card having 0, 1, 2, 3 or 4 tags. */
+    private static final double[] TAG_COUNT_WEIGHTS = {0.15, 0.35, 0.3, 0.15, 0.05};
+
+    private static final double MEAN_QUESTION_WORDS = 6;
+    private static final double MEAN_ANSWER_WORDS = 4;
+    private static final int MAX_WORDS = 60;
+    private static final double NEW_CARD_PROBABILITY = 0.3;
+    private static final double MEAN_REVIEWS = 6;
+    private static final int MAX_REVIEWS = 100;
+    private static final long MAX_HISTORY = TimeUnit.DAYS.toMillis(365);
+    private static final long MAX_REVIEW_DELAY = TimeUnit.DAYS.toMillis(3);
+
+    private static final double[] WORD_WEIGHTS = zipfCumulativeWeights(WORDS.length);
+    private static final double[] CATEGORY_WEIGHTS = zipfCumulativeWeights(CATEGORIES.length);
+    private static final double[] TAG_WEIGHTS = zipfCumulativeWeights(TAGS.length);
+    private static final double[] PRIORITY_CUMULATIVE_WEIGHTS = cumulative(PRIORITY_WEIGHTS);
+    private static final double[] TAG_COUNT_CUMULATIVE_WEIGHTS = cumulative(TAG_COUNT_WEIGHTS);
+
+    private static final Remark EMPTY_REMARK = new Remark("");
+
+    private final int size;
+    private final long seed;
+    private final long referenceTime;
+
+    /**
+     * Creates a generator of decks of {@code size} cards, reviewed up to {@link #DEFAULT_REFERENCE_TIME}.
+     */
+    public DeckGenerator(int size, long seed) {
+        this(size, seed, DEFAULT_REFERENCE_TIME);
+    }
+
+    /**
+     * Creates a generator of decks of {@code size} cards, whose review history ends at {@code referenceTime}.
+     * Some cards are due at {@code referenceTime} and the others become due in the days after it.
+     */
+    public DeckGenerator(int size, long seed, long referenceTime) {
+        checkArgument(size >= 0, MESSAGE_INVALID_SIZE);
+        this.size = size;
+        this.seed = seed;
+        this.referenceTime = referenceTime;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the card at position {@code index} of the deck. Cards at different positions have different
+     * questions, and {@code index} may be past the end of the deck to make cards that are not in it.
+     */
+    public Flashcard getCard(int index) {
+        checkArgument(index >= 0);
+        SplittableRandom random = new SplittableRandom(seed + index * SEED_STRIDE);
+
+        Question question = new Question(generateText(random, MEAN_QUESTION_WORDS) + " #" + index + "?");
+        Answer answer = new Answer(generateText(random, MEAN_ANSWER_WORDS));
+        Category category = Category.of(CATEGORIES[pick(random, CATEGORY_WEIGHTS)]);
+        Priority priority = PRIORITIES[pick(random, PRIORITY_CUMULATIVE_WEIGHTS)];
+
+        int tagCount = pick(random, TAG_COUNT_CUMULATIVE_WEIGHTS);
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(Tag.of(TAGS[pick(random, TAG_WEIGHTS)]));
+        }
+
+        return new Flashcard(question, answer, category, priority, EMPTY_REMARK, tags, generateStats(random));
+    }
+
+    @Override
+    public Iterator<Flashcard> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            public Flashcard next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getCard(nextIndex++);
+            }
+        };
+    }
+
+    /**
+     * Returns the cards of the deck in order. The stream can be made parallel, as cards are generated independently.
+     */
+    public Stream<Flashcard> stream() {
+        return IntStream.range(0, size).mapToObj(this::getCard);
+    }
+
+    /**
+     * Returns a {@code FlashBack} holding the cards of the deck.
+     */
+    public FlashBack generateFlashBack() {
+        FlashBack flashBack = new FlashBack();
+        flashBack.setFlashcards(stream().collect(Collectors.toList()));
+        return flashBack;
+    }
+
+    /**
+     * Returns the statistics of a card after replaying its reviews. Each review takes place a little after the card
+     * became due, and is answered correctly with a probability that is fixed per card.
+     */
+    private Statistics generateStats(SplittableRandom random) {
+        Statistics stats = new Statistics();
+        if (random.nextDouble() < NEW_CARD_PROBABILITY) {
+            return stats;
+        }
+
+        double skill = 0.5 + 0.48 * random.nextDouble();
+        int reviews = 1 + Math.min(MAX_REVIEWS - 1, exponential(random, MEAN_REVIEWS - 1));
+        long reviewTime = referenceTime - random.nextLong(MAX_HISTORY);
+        for (int i = 0; i < reviews && reviewTime <= referenceTime; i++) {
+            stats = stats.review(random.nextDouble() < skill, reviewTime);
+            reviewTime = stats.getDueTime() + random.nextLong(MAX_REVIEW_DELAY);
+        }
+        return stats;
+    }
+
+    private static String generateText(SplittableRandom random, double meanWords) {
+        int wordCount = 1 + Math.min(MAX_WORDS - 1, exponential(random, meanWords - 1));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            String word = WORDS[pick(random, WORD_WEIGHTS)];
+            if (i == 0) {
+                text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                text.append(' ').append(word);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns an exponentially distributed whole number with the given mean.
+     */
+    private static int exponential(SplittableRandom random, double mean) {
+        return (int) (-Math.log(1 - random.nextDouble()) * mean);
+    }
+
+    /**
+     * Returns an index drawn with the probabilities given by {@code cumulativeWeights}.
+     */
+    private static int pick(SplittableRandom random, double[] cumulativeWeights) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+            if (target < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    /**
+     * Returns the cumulative weights of a Zipf distribution over {@code count} values, where the value of rank
+     * {@code k} is {@code k} times less likely than the most common one.
+     */
+    private static double[] zipfCumulativeWeights(int count) {
+        double[] weights = new double[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = 1.0 / (i + 1);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulativeWeights = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+        return cumulativeWeights;
+    }
+}
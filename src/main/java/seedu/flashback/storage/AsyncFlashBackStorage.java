@@ -0,0 +1,170 @@
+package seedu.flashback.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.flashback.commons.core.LogsCenter;
+import seedu.flashback.commons.exceptions.DataConversionException;
+import seedu.flashback.commons.util.StringUtil;
+import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.flashcard.Flashcard;
+
+/**
+ * A {@code FlashBackStorage} that writes behind another {@code FlashBackStorage} on a background thread.
+ * Saves requested within {@code writeDelayMillis} of each other are coalesced so that only the latest
+ * data is written. Failures of a background write are reported by the next save or flush.
+ */
+public class AsyncFlashBackStorage implements FlashBackStorage {
+
+    public static final long DEFAULT_WRITE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncFlashBackStorage.class);
+
+    private final FlashBackStorage flashBackStorage;
+    private final long writeDelayMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FlashBack storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Latest data waiting to be written, keyed by the file it should be written to. */
+    private final Map<Path, ReadOnlyFlashBack> pendingSaves = new LinkedHashMap<>();
+    private IOException lastWriteFailure;
+    private volatile Consumer<IOException> writeFailureHandler = unused -> { };
+
+    public AsyncFlashBackStorage(FlashBackStorage flashBackStorage) {
+        this(flashBackStorage, DEFAULT_WRITE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an {@code AsyncFlashBackStorage} that writes to {@code flashBackStorage} at most once every
+     * {@code writeDelayMillis} milliseconds.
+     */
+    public AsyncFlashBackStorage(FlashBackStorage flashBackStorage, long writeDelayMillis) {
+        requireNonNull(flashBackStorage);
+        this.flashBackStorage = flashBackStorage;
+        this.writeDelayMillis = writeDelayMillis;
+    }
+
+    @Override
+    public Path getFlashBackFilePath() {
+        return flashBackStorage.getFlashBackFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashBack> readFlashBack() throws DataConversionException, IOException {
+        return readFlashBack(flashBackStorage.getFlashBackFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashBack> readFlashBack(Path filePath) throws DataConversionException, IOException {
+        flushFlashBack();
+        return flashBackStorage.readFlashBack(filePath);
+    }
+
+    @Override
+    public void saveFlashBack(ReadOnlyFlashBack flashBack) throws IOException {
+        saveFlashBack(flashBack, flashBackStorage.getFlashBackFilePath());
+    }
+
+    /**
+     * Queues a copy of the cards of {@code flashBack} to be written to {@code filePath}.
+     * The copy is an array of references to the (immutable) cards, so the caller may keep modifying its data.
+     *
+     * @throws IOException if an earlier background write has failed.
+     */
+    @Override
+    public void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
+        requireNonNull(flashBack);
+        requireNonNull(filePath);
+        ObservableList<Flashcard> cards = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(Arrays.asList(flashBack.getCardList().toArray(new Flashcard[0]))));
+        ReadOnlyFlashBack snapshot = () -> cards;
+
+        synchronized (pendingSaves) {
+            throwLastWriteFailure();
+            boolean isWriteScheduled = !pendingSaves.isEmpty();
+            pendingSaves.put(filePath, snapshot);
+            if (!isWriteScheduled) {
+                writer.schedule(this::writePendingSaves, writeDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Sets the handler that is told on the writer thread when a background write fails, e.g. so that the data
+     * can be marked as unsaved and saved again.
+     */
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        requireNonNull(writeFailureHandler);
+        this.writeFailureHandler = writeFailureHandler;
+    }
+
+    @Override
+    public void flushFlashBack() throws IOException {
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending writes", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (pendingSaves) {
+            throwLastWriteFailure();
+        }
+    }
+
+    /**
+     * Writes every pending save to the underlying storage. Runs on the writer thread only.
+     */
+    private void writePendingSaves() {
+        List<Map.Entry<Path, ReadOnlyFlashBack>> saves;
+        synchronized (pendingSaves) {
+            saves = new ArrayList<>(pendingSaves.entrySet());
+            pendingSaves.clear();
+        }
+
+        for (Map.Entry<Path, ReadOnlyFlashBack> save : saves) {
+            try {
+                flashBackStorage.saveFlashBack(save.getValue(), save.getKey());
+            } catch (IOException e) {
+                logger.warning("Failed to write data file " + save.getKey() + ": " + StringUtil.getDetails(e));
+                synchronized (pendingSaves) {
+                    lastWriteFailure = e;
+                }
+                writeFailureHandler.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Throws and clears the failure of the last background write, if any. Caller must hold the lock.
+     */
+    private void throwLastWriteFailure() throws IOException {
+        if (lastWriteFailure != null) {
+            IOException failure = lastWriteFailure;
+            lastWriteFailure = null;
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package seedu.flashback.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.flashback.commons.core.LogsCenter;
+import seedu.flashback.commons.exceptions.DataConversionException;
+import seedu.flashback.commons.exceptions.IllegalValueException;
+import seedu.flashback.commons.util.FileUtil;
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.flashcard.Answer;
+import seedu.flashback.model.flashcard.Category;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Priority;
+import seedu.flashback.model.flashcard.Question;
+import seedu.flashback.model.flashcard.Remark;
+import seedu.flashback.model.flashcard.Statistics;
+import seedu.flashback.model.flashcard.exceptions.DuplicateFlashcardException;
+import seedu.flashback.model.tag.Tag;
+
+/**
+ * A class to access FlashBack data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a string table holding every distinct
+ * category, priority and tag, and then the cards. Each card holds its question and answer as length-prefixed
+ * UTF-8, indices into the string table and its statistics and review schedule as fixed-width values.
+ * A CRC32 of everything before it ends the file.
+ *
+ * The file is read into a heap buffer in one pass. It is not memory-mapped, as some platforms, e.g. Windows, do not
+ * let a mapped file be replaced until the mapping is garbage collected, which would make the next save fail.
+ * Values in the string table are validated and converted to model objects once, however many cards share them.
+ */
+public class BinaryFlashBackStorage implements FlashBackStorage {
+
+    public static final int MAGIC_NUMBER = 0x464C4243;
+    public static final int FORMAT_VERSION = 2;
+    /** The first format, whose cards hold no review schedule. It can still be read. */
+    public static final int FORMAT_VERSION_WITHOUT_SCHEDULE = 1;
+
+    public static final String MESSAGE_NOT_BINARY_SNAPSHOT = "File is not a FlashBack binary snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is truncated or corrupted.";
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int TRAILER_BYTES = Long.BYTES;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFlashBackStorage.class);
+
+    private final Path filePath;
+
+    public BinaryFlashBackStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getFlashBackFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashBack> readFlashBack() throws DataConversionException, IOException {
+        return readFlashBack(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashBack()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashBack> readFlashBack(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+            buffer.flip();
+            return Optional.of(decode(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveFlashBack(ReadOnlyFlashBack flashBack) throws IOException {
+        saveFlashBack(flashBack, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashBack(ReadOnlyFlashBack)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
+        requireNonNull(flashBack);
+        saveFlashcards(flashBack.getCardList(), filePath);
+    }
+
+    /**
+     * Saves {@code flashcards} as the snapshot at {@code filePath}, writing each card as it is iterated over.
+     * The cards are iterated over twice, once to build the string table and once to write them, so a deck that is
+     * generated on the fly can be saved without holding it in memory as long as it yields the same cards each time.
+     * The cards must have distinct questions, or the snapshot cannot be read back.
+     */
+    public void saveFlashcards(Iterable<Flashcard> flashcards, Path filePath) throws IOException {
+        requireNonNull(flashcards);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        encode(flashcards, tempPath);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void flushFlashBack() {
+        // saves are written synchronously, so there is nothing pending
+    }
+
+    /**
+     * Converts the JSON data file at {@code jsonFilePath} into a binary snapshot at {@code binaryFilePath}.
+     *
+     * @throws NoSuchFileException if there is no file at {@code jsonFilePath}.
+     * @throws DataConversionException if the JSON data file is not in the correct format.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        convert(new JsonFlashBackStorage(jsonFilePath), new BinaryFlashBackStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary snapshot at {@code binaryFilePath} into a JSON data file at {@code jsonFilePath}.
+     *
+     * @throws NoSuchFileException if there is no file at {@code binaryFilePath}.
+     * @throws DataConversionException if the binary snapshot is not in the correct format.
+     */
+    public static void convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        convert(new BinaryFlashBackStorage(binaryFilePath), new JsonFlashBackStorage(jsonFilePath));
+    }
+
+    private static void convert(FlashBackStorage source, FlashBackStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyFlashBack> flashBack = source.readFlashBack();
+        if (!flashBack.isPresent()) {
+            throw new NoSuchFileException(source.getFlashBackFilePath().toString());
+        }
+        target.saveFlashBack(flashBack.get());
+    }
+
+    //// encoding
+
+    private static void encode(Iterable<Flashcard> cards, Path snapshotPath) throws IOException {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        int cardCount = 0;
+        for (Flashcard card : cards) {
+            cardCount++;
+            stringTable.putIfAbsent(card.getCategory().value, stringTable.size());
+            stringTable.putIfAbsent(card.getPriority().value, stringTable.size());
+            for (Tag tag : card.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(Files.newOutputStream(snapshotPath), checksum)))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(stringTable.size());
+            for (String value : stringTable.keySet()) {
+                writeString(out, value);
+            }
+
+            out.writeInt(cardCount);
+            int writtenCount = 0;
+            for (Flashcard card : cards) {
+                writtenCount++;
+                writeString(out, card.getQuestion().fullQuestion);
+                writeString(out, card.getAnswer().value);
+                out.writeInt(stringTable.get(card.getCategory().value));
+                out.writeInt(stringTable.get(card.getPriority().value));
+                out.writeInt(card.getTags().size());
+                for (Tag tag : card.getTags()) {
+                    out.writeInt(stringTable.get(tag.tagName));
+                }
+                Statistics stats = card.getStats();
+                out.writeInt(stats.getReviewCount());
+                out.writeInt(stats.getCorrectCount());
+                out.writeLong(stats.getDueTime());
+                out.writeInt(stats.getEaseFactor());
+                out.writeInt(stats.getInterval());
+                out.writeInt(stats.getRepetitions());
+            }
+            if (writtenCount != cardCount) {
+                throw new ConcurrentModificationException("Cards changed while the snapshot was written");
+            }
+
+            out.flush();
+            out.writeLong(checksum.getValue());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //// decoding
+
+    private static FlashBack decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_SCHEDULE) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            verifyChecksum(buffer);
+
+            SnapshotStringTable stringTable = new SnapshotStringTable(buffer);
+            int cardCount = readCount(buffer);
+            List<Flashcard> cards = new ArrayList<>(cardCount);
+            for (int i = 0; i < cardCount; i++) {
+                cards.add(readCard(buffer, stringTable, version));
+            }
+
+            FlashBack flashBack = new FlashBack();
+            flashBack.setFlashcards(cards);
+            return flashBack;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        } catch (DuplicateFlashcardException dfe) {
+            throw new IllegalValueException(JsonSerializableFlashBack.MESSAGE_DUPLICATE_CARD, dfe);
+        }
+    }
+
+    /**
+     * Checks the CRC32 at the end of {@code buffer} without moving its position.
+     */
+    private static void verifyChecksum(ByteBuffer buffer) throws IllegalValueException {
+        int checksumPosition = buffer.limit() - TRAILER_BYTES;
+        ByteBuffer content = buffer.duplicate();
+        content.position(0).limit(checksumPosition);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if (checksum.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static Flashcard readCard(ByteBuffer buffer, SnapshotStringTable stringTable, int version)
+            throws IllegalValueException {
+        String question = readString(buffer);
+        if (!Question.isValidQuestion(question)) {
+            throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+        }
+        String answer = readString(buffer);
+        if (!Answer.isValidAnswer(answer)) {
+            throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+        }
+        Category category = stringTable.getCategory(buffer.getInt());
+        Priority priority = stringTable.getPriority(buffer.getInt());
+
+        int tagCount = readCount(buffer);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(stringTable.getTag(buffer.getInt()));
+        }
+
+        Statistics stats = version == FORMAT_VERSION_WITHOUT_SCHEDULE
+                ? new Statistics(buffer.getInt(), buffer.getInt())
+                : new Statistics(buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getInt(), buffer.getInt(),
+                        buffer.getInt());
+        if (!Statistics.isValidStats(stats)) {
+            throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINT);
+        }
+        return new Flashcard(new Question(question), new Answer(answer), category, priority, new Remark(""),
+                tags, stats);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readCount(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * The string table of a snapshot. Each value is converted to a model object on first use and shared by
+     * every card that refers to it.
+     */
+    private static class SnapshotStringTable {
+        private final String[] values;
+        private final Category[] categories;
+        private final Priority[] priorities;
+        private final Tag[] tags;
+
+        SnapshotStringTable(ByteBuffer buffer) throws IllegalValueException {
+            int size = readCount(buffer);
+            values = new String[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = readString(buffer);
+            }
+            categories = new Category[size];
+            priorities = new Priority[size];
+            tags = new Tag[size];
+        }
+
+        Category getCategory(int index) throws IllegalValueException {
+            if (categories[index] == null) {
+                if (!Category.isValidCategory(values[index])) {
+                    throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+                }
+                categories[index] = Category.of(values[index]);
+            }
+            return categories[index];
+        }
+
+        Priority getPriority(int index) throws IllegalValueException {
+            if (priorities[index] == null) {
+                if (!Priority.isValidPriority(values[index])) {
+                    throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
+                }
+                priorities[index] = Priority.of(values[index]);
+            }
+            return priorities[index];
+        }
+
+        Tag getTag(int index) throws IllegalValueException {
+            if (tags[index] == null) {
+                if (!Tag.isValidTagName(values[index])) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[index] = Tag.of(values[index]);
+            }
+            return tags[index];
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.flashback.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.flashback.commons.exceptions.DataConversionException;
 import seedu.flashback.model.FlashBack;
@@ -43,4 +44,18 @@ public interface FlashBackStorage {
      */
     void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save requested so far has been written to the storage.
+     * @throws IOException if there was any problem writing a pending save.
+     */
+    void flushFlashBack() throws IOException;
+
+    /**
+     * Sets the handler that is told when a save fails after {@link #saveFlashBack(ReadOnlyFlashBack, Path)} has
+     * returned. Storages that finish writing before a save returns report failures by throwing, and ignore the
+     * handler.
+     */
+    default void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+    }
+
 }
@@ -0,0 +1,406 @@
+package seedu.flashback.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.flashback.commons.core.LogsCenter;
+import seedu.flashback.commons.exceptions.DataConversionException;
+import seedu.flashback.commons.exceptions.IllegalValueException;
+import seedu.flashback.commons.util.FileUtil;
+import seedu.flashback.commons.util.JsonUtil;
+import seedu.flashback.commons.util.StringUtil;
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.exceptions.DuplicateFlashcardException;
+
+/**
+ * A class to access FlashBack data stored as a snapshot file plus an append-only journal on the hard disk.
+ *
+ * Both files hold one JSON object per line. The snapshot holds every card, while the journal holds the changes
+ * made since the snapshot was written, e.g. the statistics of a single reviewed card. Saving therefore only
+ * appends the cards that changed since the last save. Once the journal grows past a size threshold,
+ * it is compacted into a fresh snapshot on a background thread.
+ *
+ * Every file starts with a header naming its generation. A journal is replayed on top of the snapshot only if
+ * its generation is not older than the snapshot's, so a crash during compaction never replays a change twice.
+ */
+public class JournalFlashBackStorage implements FlashBackStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    /** Beyond this many changed cards, writing a snapshot is cheaper than journalling the changes. */
+    public static final int MAX_JOURNALLED_CHANGES = 64;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String RETIRED_JOURNAL_SUFFIX = ".journal.old";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFlashBackStorage.class);
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FlashBack journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Cards as last written to {@code filePath}, or null if they are not known yet. */
+    private List<Flashcard> persistedCards;
+    /** Generation of the journal that changes are currently appended to. */
+    private long journalGeneration;
+    private Future<?> compaction;
+
+    public JournalFlashBackStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalFlashBackStorage} that compacts its journal once it is larger than
+     * {@code compactionThresholdBytes}.
+     */
+    public JournalFlashBackStorage(Path filePath, long compactionThresholdBytes) {
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    @Override
+    public Path getFlashBackFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashBack> readFlashBack() throws DataConversionException, IOException {
+        return readFlashBack(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashBack()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyFlashBack> readFlashBack(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        waitForCompaction();
+
+        if (!Files.exists(filePath)) {
+            logger.info("Journal snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Flashcard> cards = new ArrayList<>();
+        long latestGeneration;
+        try {
+            long snapshotGeneration = readSnapshot(filePath, cards);
+            long retiredGeneration = replayJournal(getRetiredJournalPath(filePath), snapshotGeneration, cards);
+            long activeGeneration = replayJournal(getJournalPath(filePath), snapshotGeneration, cards);
+            latestGeneration = Math.max(snapshotGeneration, Math.max(retiredGeneration, activeGeneration));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        FlashBack flashBack = new FlashBack();
+        try {
+            flashBack.setFlashcards(cards);
+        } catch (DuplicateFlashcardException dfe) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableFlashBack.MESSAGE_DUPLICATE_CARD));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            journalGeneration = latestGeneration;
+            persistedCards = cards;
+            if (Files.exists(getRetiredJournalPath(filePath))) {
+                // an earlier compaction did not finish, fold everything into a new snapshot
+                writeSnapshot(cards);
+            }
+        }
+        return Optional.of(flashBack);
+    }
+
+    @Override
+    public void saveFlashBack(ReadOnlyFlashBack flashBack) throws IOException {
+        saveFlashBack(flashBack, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashBack(ReadOnlyFlashBack)}.
+     * Only appends the changes since the last save if {@code filePath} is the file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
+        requireNonNull(flashBack);
+        requireNonNull(filePath);
+        List<Flashcard> cards = new ArrayList<>(flashBack.getCardList());
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshotFile(filePath, 0, cards);
+            Files.deleteIfExists(getJournalPath(filePath));
+            Files.deleteIfExists(getRetiredJournalPath(filePath));
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalEntry>> changes = persistedCards == null
+                ? Optional.empty()
+                : getChanges(persistedCards, cards);
+        if (!changes.isPresent()) {
+            writeSnapshot(cards);
+            return;
+        }
+
+        appendToJournal(changes.get());
+        persistedCards = cards;
+        if (Files.size(getJournalPath(filePath)) > compactionThresholdBytes && !isCompacting()) {
+            startCompaction(cards);
+        }
+    }
+
+    @Override
+    public synchronized void flushFlashBack() throws IOException {
+        waitForCompaction();
+    }
+
+    //// journal operations
+
+    /**
+     * Returns the journal entries that turn {@code before} into {@code after}, or {@code Optional.empty()}
+     * if there are too many of them. Cards are immutable, so unchanged cards are found by reference.
+     */
+    private static Optional<List<JsonAdaptedJournalEntry>> getChanges(List<Flashcard> before,
+                                                                      List<Flashcard> after) {
+        int minSize = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < minSize && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int removedCount = before.size() - prefix - suffix;
+        int addedCount = after.size() - prefix - suffix;
+        if (removedCount + addedCount > MAX_JOURNALLED_CHANGES) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> changes = new ArrayList<>();
+        int replacedCount = Math.min(removedCount, addedCount);
+        for (int i = prefix; i < prefix + replacedCount; i++) {
+            Flashcard previous = before.get(i);
+            Flashcard current = after.get(i);
+            changes.add(hasSameDetails(previous, current)
+                    ? JsonAdaptedJournalEntry.stats(i, current.getStats())
+                    : JsonAdaptedJournalEntry.set(i, current));
+        }
+        for (int i = replacedCount; i < removedCount; i++) {
+            changes.add(JsonAdaptedJournalEntry.remove(prefix + replacedCount));
+        }
+        for (int i = prefix + replacedCount; i < prefix + addedCount; i++) {
+            changes.add(JsonAdaptedJournalEntry.add(i, after.get(i)));
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns true if both cards are the same apart from their statistics.
+     */
+    private static boolean hasSameDetails(Flashcard previous, Flashcard current) {
+        return previous.getQuestion().equals(current.getQuestion())
+                && previous.getAnswer().equals(current.getAnswer())
+                && previous.getCategory().equals(current.getCategory())
+                && previous.getPriority().equals(current.getPriority())
+                && previous.getTags().equals(current.getTags());
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalPath)) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.header(journalGeneration)))
+                    .append('\n');
+        }
+        for (JsonAdaptedJournalEntry change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(change)).append('\n');
+        }
+        Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Replays the journal at {@code journalPath} onto {@code cards} if it is not older than the snapshot.
+     * An unreadable last line is the result of an interrupted append and is ignored.
+     *
+     * @return the generation of the journal, or -1 if there is no journal.
+     */
+    private static long replayJournal(Path journalPath, long snapshotGeneration, List<Flashcard> cards)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return -1;
+        }
+        long generation = parseEntry(lines.get(0)).getGeneration();
+        if (generation < snapshotGeneration) {
+            return generation;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = parseEntry(lines.get(i));
+            } catch (IllegalValueException ive) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    break;
+                }
+                throw ive;
+            }
+            entry.applyTo(cards);
+        }
+        return generation;
+    }
+
+    //// snapshot operations
+
+    /**
+     * Writes {@code cards} as a new snapshot of this storage and discards the journals it supersedes.
+     */
+    private void writeSnapshot(List<Flashcard> cards) throws IOException {
+        waitForCompaction();
+        long generation = journalGeneration + 1;
+        writeSnapshotFile(filePath, generation, cards);
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getRetiredJournalPath(filePath));
+        journalGeneration = generation;
+        persistedCards = cards;
+    }
+
+    /**
+     * Retires the current journal and writes {@code cards} as a new snapshot in the background.
+     * Changes saved in the meantime go to a new journal of the same generation as the new snapshot.
+     */
+    private void startCompaction(List<Flashcard> cards) throws IOException {
+        Path retiredJournalPath = getRetiredJournalPath(filePath);
+        if (Files.exists(retiredJournalPath)) {
+            // an earlier compaction failed, so the retired journal is still needed
+            writeSnapshot(cards);
+            return;
+        }
+
+        Files.move(getJournalPath(filePath), retiredJournalPath, StandardCopyOption.ATOMIC_MOVE);
+        long generation = ++journalGeneration;
+        logger.fine("Compacting journal of " + filePath + " into snapshot generation " + generation);
+        compaction = compactor.submit(() -> {
+            writeSnapshotFile(filePath, generation, cards);
+            Files.delete(retiredJournalPath);
+            return null;
+        });
+    }
+
+    private boolean isCompacting() {
+        return compaction != null && !compaction.isDone();
+    }
+
+    private void waitForCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting journal", e);
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(e.getCause()));
+        } finally {
+            compaction = null;
+        }
+    }
+
+    private static long readSnapshot(Path snapshotPath, List<Flashcard> cards)
+            throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY, ""));
+            }
+            long generation = parseEntry(header).getGeneration();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    cards.add(parseEntry(line).toModelType());
+                }
+            }
+            return generation;
+        }
+    }
+
+    /**
+     * Writes {@code cards} to {@code snapshotPath} through a temporary file, so that the previous snapshot
+     * stays intact if writing fails part way.
+     */
+    private static void writeSnapshotFile(Path snapshotPath, long generation, List<Flashcard> cards)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMP_SUFFIX);
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            writer.write(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.header(generation)));
+            writer.newLine();
+            for (Flashcard card : cards) {
+                writer.write(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.card(card)));
+                writer.newLine();
+            }
+        }
+        Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static JsonAdaptedJournalEntry parseEntry(String line) throws IllegalValueException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+        } catch (IOException e) {
+            throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY, line));
+        }
+    }
+
+    private static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getRetiredJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + RETIRED_JOURNAL_SUFFIX);
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.flashback.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -12,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.flashback.commons.exceptions.IllegalValueException;
 import seedu.flashback.model.flashcard.*;
 import seedu.flashback.model.tag.Tag;
+import seedu.flashback.model.tag.TagSet;
 
 /**
  * Jackson-friendly version of {@link Flashcard}.
@@ -94,7 +94,7 @@ class JsonAdaptedFlashcard {
         if (!Category.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        final Category modelCategory = new Category(category);
+        final Category modelCategory = Category.of(category);
 
         if (priority == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -103,11 +103,11 @@ class JsonAdaptedFlashcard {
         if (!Priority.isValidPriority(priority)) {
             throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
         }
-        final Priority modelPriority = new Priority(priority);
+        final Priority modelPriority = Priority.of(priority);
 
         final Remark modelRemark = new Remark("");
 
-        final Set<Tag> modelTags = new HashSet<>(cardTags);
+        final Set<Tag> modelTags = TagSet.of(cardTags);
 
         if (stats == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
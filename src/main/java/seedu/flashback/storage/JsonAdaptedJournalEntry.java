@@ -0,0 +1,162 @@
+package seedu.flashback.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.flashback.commons.exceptions.IllegalValueException;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Remark;
+import seedu.flashback.model.flashcard.Statistics;
+
+/**
+ * Jackson-friendly version of a single line in a {@link JournalFlashBackStorage} file.
+ * A line is either a header naming the generation of the file, a flash card of a snapshot,
+ * or a mutation of the card at a position in the card list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_HEADER = "header";
+    public static final String OP_CARD = "card";
+    public static final String OP_ADD = "add";
+    public static final String OP_SET = "set";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_STATS = "stats";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry \"%1$s\" is invalid.";
+
+    private final String op;
+    private final Long generation;
+    private final Integer index;
+    private final JsonAdaptedFlashcard card;
+    private final Statistics stats;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("generation") Long generation,
+                                   @JsonProperty("index") Integer index,
+                                   @JsonProperty("card") JsonAdaptedFlashcard card,
+                                   @JsonProperty("stats") Statistics stats) {
+        this.op = op;
+        this.generation = generation;
+        this.index = index;
+        this.card = card;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns a header entry for a file of the given {@code generation}.
+     */
+    public static JsonAdaptedJournalEntry header(long generation) {
+        return new JsonAdaptedJournalEntry(OP_HEADER, generation, null, null, null);
+    }
+
+    /**
+     * Returns a snapshot entry holding {@code flashcard}.
+     */
+    public static JsonAdaptedJournalEntry card(Flashcard flashcard) {
+        return new JsonAdaptedJournalEntry(OP_CARD, null, null, new JsonAdaptedFlashcard(flashcard), null);
+    }
+
+    /**
+     * Returns an entry that inserts {@code flashcard} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Flashcard flashcard) {
+        return new JsonAdaptedJournalEntry(OP_ADD, null, index, new JsonAdaptedFlashcard(flashcard), null);
+    }
+
+    /**
+     * Returns an entry that replaces the card at {@code index} with {@code flashcard}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Flashcard flashcard) {
+        return new JsonAdaptedJournalEntry(OP_SET, null, index, new JsonAdaptedFlashcard(flashcard), null);
+    }
+
+    /**
+     * Returns an entry that removes the card at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(OP_REMOVE, null, index, null, null);
+    }
+
+    /**
+     * Returns an entry that replaces only the statistics of the card at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry stats(int index, Statistics stats) {
+        return new JsonAdaptedJournalEntry(OP_STATS, null, index, null, stats);
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    /**
+     * Returns the generation named by this header entry.
+     *
+     * @throws IllegalValueException if this is not a valid header entry.
+     */
+    public long getGeneration() throws IllegalValueException {
+        if (!OP_HEADER.equals(op) || generation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return generation;
+    }
+
+    /**
+     * Converts this snapshot entry into the model's {@code Flashcard} object.
+     *
+     * @throws IllegalValueException if this is not a valid snapshot entry.
+     */
+    public Flashcard toModelType() throws IllegalValueException {
+        if (!OP_CARD.equals(op) || card == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return card.toModelType();
+    }
+
+    /**
+     * Applies this mutation entry to {@code flashcards}.
+     *
+     * @throws IllegalValueException if this is not a valid mutation of {@code flashcards}.
+     */
+    public void applyTo(List<Flashcard> flashcards) throws IllegalValueException {
+        if (op == null || index == null || index < 0 || index > flashcards.size()
+                || (index == flashcards.size() && !OP_ADD.equals(op))) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            flashcards.add(index, toModelCard());
+            break;
+        case OP_SET:
+            flashcards.set(index, toModelCard());
+            break;
+        case OP_REMOVE:
+            flashcards.remove((int) index);
+            break;
+        case OP_STATS:
+            if (stats == null || !Statistics.isValidStats(stats)) {
+                throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINT);
+            }
+            Flashcard previous = flashcards.get(index);
+            flashcards.set(index, new Flashcard(previous.getQuestion(), previous.getAnswer(),
+                    previous.getCategory(), previous.getPriority(), new Remark(""), previous.getTags(), stats));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+    }
+
+    private Flashcard toModelCard() throws IllegalValueException {
+        if (card == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return card.toModelType();
+    }
+}
@@ -3,28 +3,44 @@ package seedu.flashback.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.flashback.commons.core.LogsCenter;
 import seedu.flashback.commons.exceptions.DataConversionException;
 import seedu.flashback.commons.exceptions.IllegalValueException;
 import seedu.flashback.commons.util.FileUtil;
 import seedu.flashback.commons.util.JsonUtil;
 import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.flashcard.Flashcard;
 
 /**
  * A class to access FlashBack data stored as a json file on the hard disk.
+ * The file is streamed one card at a time, so the whole document is never held in memory as a string.
  */
 public class JsonFlashBackStorage implements FlashBackStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonFlashBackStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonFlashBackStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonFlashBackStorage} that indents the data file for human readers if
+     * {@code isPrettyPrinted} is true. This makes the file noticeably larger, so it is off by default.
+     */
+    public JsonFlashBackStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getFlashBackFilePath() {
@@ -45,14 +61,16 @@ public class JsonFlashBackStorage implements FlashBackStorage {
     public Optional<ReadOnlyFlashBack> readFlashBack(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFlashBack> jsonFlashBack = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFlashBack.class);
-        if (!jsonFlashBack.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonFlashBack.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(JsonSerializableFlashBack.readFlashBack(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -71,10 +89,27 @@ public class JsonFlashBackStorage implements FlashBackStorage {
      */
     public void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
         requireNonNull(flashBack);
+        saveFlashcards(flashBack.getCardList(), filePath);
+    }
+
+    /**
+     * Saves {@code flashcards} as the data file at {@code filePath}, writing each card as it is iterated over.
+     * This lets a deck that is generated on the fly be saved without holding it in memory.
+     * The cards must have distinct questions, or the file cannot be read back.
+     */
+    public void saveFlashcards(Iterable<Flashcard> flashcards, Path filePath) throws IOException {
+        requireNonNull(flashcards);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashBack(flashBack), filePath);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath, isPrettyPrinted)) {
+            JsonSerializableFlashBack.writeFlashBack(generator, flashcards);
+        }
+    }
+
+    @Override
+    public void flushFlashBack() {
+        // saves are written synchronously, so there is nothing pending
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.flashback.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.flashback.commons.exceptions.IllegalValueException;
 import seedu.flashback.model.FlashBack;
@@ -20,6 +25,9 @@ import seedu.flashback.model.flashcard.Flashcard;
 class JsonSerializableFlashBack {
 
     public static final String MESSAGE_DUPLICATE_CARD = "Flash cards list contains duplicate card(s).";
+    public static final String MESSAGE_INVALID_FORMAT = "Expected %1$s but found %2$s.";
+
+    private static final String FLASHCARDS_FIELD = "flashcards";
 
     private final List<JsonAdaptedFlashcard> flashcards = new ArrayList<>();
 
@@ -58,4 +66,55 @@ class JsonSerializableFlashBack {
         return flashBack;
     }
 
+    /**
+     * Reads a {@code FlashBack} from {@code parser} one card at a time, without holding the whole document
+     * or its {@code JsonAdaptedFlashcard}s in memory.
+     *
+     * @throws IOException if the content of {@code parser} is not valid JSON in the expected layout.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static FlashBack readFlashBack(JsonParser parser) throws IOException, IllegalValueException {
+        FlashBack flashBack = new FlashBack();
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!FLASHCARDS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expectToken(parser, valueToken, JsonToken.START_ARRAY);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Flashcard flashcard = parser.readValueAs(JsonAdaptedFlashcard.class).toModelType();
+                if (flashBack.hasCard(flashcard)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
+                }
+                flashBack.addCard(flashcard);
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return flashBack;
+    }
+
+    /**
+     * Writes {@code flashcards} to {@code generator} one card at a time, in the same layout as this class.
+     * The cards are only iterated over, so they need not be held in memory.
+     */
+    public static void writeFlashBack(JsonGenerator generator, Iterable<Flashcard> flashcards) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(FLASHCARDS_FIELD);
+        for (Flashcard flashcard : flashcards) {
+            generator.writeObject(new JsonAdaptedFlashcard(flashcard));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format(MESSAGE_INVALID_FORMAT, expected, actual));
+        }
+    }
+
 }
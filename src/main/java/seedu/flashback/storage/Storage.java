@@ -29,4 +29,7 @@ public interface Storage extends FlashBackStorage, UserPrefsStorage {
     @Override
     void saveFlashBack(ReadOnlyFlashBack flashBack) throws IOException;
 
+    @Override
+    void flushFlashBack() throws IOException;
+
 }
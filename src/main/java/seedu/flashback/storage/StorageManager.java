@@ -3,6 +3,7 @@ package seedu.flashback.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.flashback.commons.core.LogsCenter;
@@ -76,4 +77,15 @@ public class StorageManager implements Storage {
         flashBackStorage.saveFlashBack(flashBack, filePath);
     }
 
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        flashBackStorage.setWriteFailureHandler(writeFailureHandler);
+    }
+
+    @Override
+    public void flushFlashBack() throws IOException {
+        logger.fine("Flushing pending writes to data file: " + flashBackStorage.getFlashBackFilePath());
+        flashBackStorage.flushFlashBack();
+    }
+
 }
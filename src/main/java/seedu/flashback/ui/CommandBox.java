@@ -1,13 +1,13 @@
 package seedu.flashback.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.flashback.logic.commands.CommandResult;
-import seedu.flashback.logic.commands.exceptions.CommandException;
-import seedu.flashback.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -43,6 +43,8 @@ public class CommandBox extends UiPart<Region> {
     }
     /**
      * Handles the Enter button pressed event.
+     * The command text is kept until the command has executed, and is only cleared or marked as failed if the user
+     * has not started typing another command by then.
      */
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
@@ -50,12 +52,17 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
     /**
      * Sets the command box style to use the default style.
@@ -80,10 +87,10 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command for execution and returns its result, which completes on the JavaFX application thread.
          *
-         * @see seedu.flashback.logic.Logic#execute(String)
+         * @see seedu.flashback.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 }
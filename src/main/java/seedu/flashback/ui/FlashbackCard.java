@@ -1,6 +1,7 @@
 package seedu.flashback.ui;
 
 import java.util.Comparator;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -8,6 +9,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Priority;
 
 /**
  * An UI component that displays information of a {@code Flashcard}.
@@ -15,6 +17,12 @@ import seedu.flashback.model.flashcard.Flashcard;
 public class FlashbackCard extends UiPart<Region> {
 
     private static final String FXML = "FlashcardListCard.fxml";
+    private static final Background HIGH_BACKGROUND =
+            new Background(new BackgroundFill(Color.RED, CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Background MID_BACKGROUND =
+            new Background(new BackgroundFill(Color.YELLOW, CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Background LOW_BACKGROUND =
+            new Background(new BackgroundFill(Color.GREEN, CornerRadii.EMPTY, Insets.EMPTY));
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -24,7 +32,7 @@ public class FlashbackCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Flashcard flashcard;
+    private Flashcard flashcard;
 
     @FXML
     private HBox cardPane;
@@ -43,27 +51,56 @@ public class FlashbackCard extends UiPart<Region> {
      * Creates a {@code FlashbackCard} with the given {@code flashcard} and index to display.
      */
     public FlashbackCard(Flashcard flashcard, int displayedIndex) {
+        this();
+        setFlashcard(flashcard, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code FlashbackCard} that displays nothing until {@link #setFlashcard} is called.
+     */
+    public FlashbackCard() {
         super(FXML);
+        category.setWrapText(true);
+    }
+
+    public Flashcard getFlashcard() {
+        return flashcard;
+    }
+
+    /**
+     * Displays {@code flashcard} with the given index in place of the current one, reusing the same nodes.
+     */
+    public void setFlashcard(Flashcard flashcard, int displayedIndex) {
         this.flashcard = flashcard;
         id.setText(displayedIndex + ". ");
         question.setText(flashcard.getQuestion().fullQuestion);
-        String text = flashcard.getPriority().toString();
-        priority.setText(text);
-        priority.setStyle("-fx-text-fill: white;");
-        if (text.equals("High")) {
-            priority.setBackground(new Background(new BackgroundFill(Color.RED, CornerRadii.EMPTY, Insets.EMPTY)));
-        } else if (text.equals("Mid")) {
-            priority.setBackground(new Background(new BackgroundFill(Color.YELLOW, CornerRadii.EMPTY, Insets.EMPTY)));
-            priority.setStyle("-fx-text-fill: black;");
-        } else {
-            assert text.equals("Low");
-            priority.setBackground(new Background(new BackgroundFill(Color.GREEN, CornerRadii.EMPTY, Insets.EMPTY)));
-        }
+        showPriority(priority, flashcard.getPriority());
         category.setText(flashcard.getCategory().value);
-        category.setWrapText(true);
-        flashcard.getTags().stream()
+        tags.getChildren().setAll(flashcard.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+                .map(tag -> new Label(tag.tagName))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Shows {@code priority} on {@code label} in the colour of its level.
+     */
+    static void showPriority(Label label, Priority priority) {
+        label.setText(priority.toString());
+        switch (priority.getLevel()) {
+        case HIGH:
+            label.setBackground(HIGH_BACKGROUND);
+            label.setStyle("-fx-text-fill: white;");
+            break;
+        case MID:
+            label.setBackground(MID_BACKGROUND);
+            label.setStyle("-fx-text-fill: black;");
+            break;
+        default:
+            label.setBackground(LOW_BACKGROUND);
+            label.setStyle("-fx-text-fill: white;");
+            break;
+        }
     }
 
     @Override
@@ -1,22 +1,18 @@
 package seedu.flashback.ui;
 
 import java.util.Comparator;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
 import javafx.scene.control.Label;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
-import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 import seedu.flashback.model.flashcard.Flashcard;
 
 public class FlashbackViewCard extends UiPart<Region> {
     private static final String FXML = "FlashbackViewCard.fxml";
-    public final Flashcard flashcard;
+    private Flashcard flashcard;
     @FXML
     private VBox answerPlaceholder;
     @FXML
@@ -34,28 +30,37 @@ public class FlashbackViewCard extends UiPart<Region> {
      * Creates a {@code FlashbackViewCard} with the given {@code flashcard}.
      */
     public FlashbackViewCard(Flashcard flashcard) {
+        this();
+        setFlashcard(flashcard);
+    }
+
+    /**
+     * Creates a {@code FlashbackViewCard} that displays nothing until {@link #setFlashcard} is called.
+     */
+    public FlashbackViewCard() {
         super(FXML);
+        question.setWrapText(true);
+        answer.setWrapText(true);
+    }
+
+    public Flashcard getFlashcard() {
+        return flashcard;
+    }
+
+    /**
+     * Displays {@code flashcard} in place of the current one, reusing the same nodes.
+     * Whether the answer is shown is left unchanged.
+     */
+    public void setFlashcard(Flashcard flashcard) {
         this.flashcard = flashcard;
         question.setText(flashcard.getQuestion().fullQuestion);
-        question.setWrapText(true);
         answer.setText(flashcard.getAnswer().toString());
-        answer.setWrapText(true);
         category.setText(flashcard.getCategory().toString());
-        flashcard.getTags().stream()
+        tags.getChildren().setAll(flashcard.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        String text = flashcard.getPriority().toString();
-        priority.setText(text);
-        priority.setStyle("-fx-text-fill: white;");
-        if (text.equals("High")) {
-            priority.setBackground(new Background(new BackgroundFill(Color.RED, CornerRadii.EMPTY, Insets.EMPTY)));
-        } else if (text.equals("Mid")) {
-            priority.setBackground(new Background(new BackgroundFill(Color.YELLOW, CornerRadii.EMPTY, Insets.EMPTY)));
-            priority.setStyle("-fx-text-fill: black;");
-        } else {
-            assert text.equals("Low");
-            priority.setBackground(new Background(new BackgroundFill(Color.GREEN, CornerRadii.EMPTY, Insets.EMPTY)));
-        }
+                .map(tag -> new Label(tag.tagName))
+                .collect(Collectors.toList()));
+        FlashbackCard.showPriority(priority, flashcard.getPriority());
     }
 
     /**
@@ -65,6 +70,13 @@ public class FlashbackViewCard extends UiPart<Region> {
         answerPlaceholder.setVisible(false);
     }
 
+    /**
+     * Shows the answer of the question to the user.
+     */
+    public void showAnswer() {
+        answerPlaceholder.setVisible(true);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
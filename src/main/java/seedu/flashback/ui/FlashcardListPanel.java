@@ -1,7 +1,15 @@
 package seedu.flashback.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,19 +28,76 @@ public class FlashcardListPanel extends UiPart<Region> {
     @FXML
     private ListView<Flashcard> flashcardListView;
 
+    /** Copy of the model's list that is only changed on the JavaFX application thread. */
+    private final ObservableList<Flashcard> shownFlashcards;
+    /** Changes of the model's list that are yet to be made to {@code shownFlashcards}, in the order they were made. */
+    private final Queue<Runnable> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isShowPending = new AtomicBoolean();
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * {@code flashcardList} is changed by commands on the logic's writer thread, so the panel shows a copy of it
+     * that is brought up to date on the JavaFX application thread. Only the changed ranges are copied, and the
+     * changes made before the JavaFX application thread gets to them are shown together.
      */
     public FlashcardListPanel(ObservableList<Flashcard> flashcardList) {
         super(FXML);
-        flashcardListView.setItems(flashcardList);
+        shownFlashcards = FXCollections.observableArrayList(flashcardList);
+        flashcardList.addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                queueChange(change);
+            }
+            if (isShowPending.compareAndSet(false, true)) {
+                Platform.runLater(this::showPendingChanges);
+            }
+        });
+        flashcardListView.setItems(shownFlashcards);
         flashcardListView.setCellFactory(listView -> new FlashcardListViewCell());
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Queues the current step of {@code change} to be made to {@code shownFlashcards}, replacing the range it
+     * removed or reordered with a copy of what is there now. Runs on the thread that changed the model's list.
+     */
+    private void queueChange(ListChangeListener.Change<? extends Flashcard> change) {
+        int from = change.getFrom();
+        int removedCount;
+        List<Flashcard> added;
+        if (change.wasPermutated()) {
+            removedCount = change.getTo() - from;
+            added = new ArrayList<>(change.getList().subList(from, change.getTo()));
+        } else {
+            removedCount = change.getRemovedSize();
+            added = new ArrayList<>(change.getAddedSubList());
+        }
+
+        if (removedCount > 0 || !added.isEmpty()) {
+            pendingChanges.add(() -> {
+                shownFlashcards.remove(from, from + removedCount);
+                shownFlashcards.addAll(from, added);
+            });
+        }
+    }
+
+    /**
+     * Makes every queued change to {@code shownFlashcards}. Runs on the JavaFX application thread.
+     */
+    private void showPendingChanges() {
+        // cleared first, so that a change queued while the others are made is shown by another run
+        isShowPending.set(false);
+        Runnable change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.run();
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Flashcard} using a {@code FlashbackCard}.
+     * Each cell creates its {@code FlashbackCard} once and shows every card it is given with it.
      */
     class FlashcardListViewCell extends ListCell<Flashcard> {
+        private FlashbackCard flashbackCard;
+
         @Override
         protected void updateItem(Flashcard flashcard, boolean empty) {
             super.updateItem(flashcard, empty);
@@ -40,9 +105,14 @@ public class FlashcardListPanel extends UiPart<Region> {
             if (empty || flashcard == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new FlashbackCard(flashcard, getIndex() + 1).getRoot());
+                return;
+            }
+
+            if (flashbackCard == null) {
+                flashbackCard = new FlashbackCard();
             }
+            flashbackCard.setFlashcard(flashcard, getIndex() + 1);
+            setGraphic(flashbackCard.getRoot());
         }
     }
 
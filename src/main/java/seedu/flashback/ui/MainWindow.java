@@ -3,8 +3,10 @@ package seedu.flashback.ui;
 import static seedu.flashback.ui.ReviewMode.EXIT_REVIEW_MODE;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,11 +18,8 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.flashback.commons.core.GuiSettings;
 import seedu.flashback.commons.core.LogsCenter;
-import seedu.flashback.commons.core.index.Index;
 import seedu.flashback.logic.Logic;
 import seedu.flashback.logic.commands.CommandResult;
-import seedu.flashback.logic.commands.exceptions.CommandException;
-import seedu.flashback.logic.parser.exceptions.ParseException;
 import seedu.flashback.model.flashcard.Flashcard;
 import seedu.flashback.model.flashcard.Question;
 import seedu.flashback.model.flashcard.Statistics;
@@ -42,8 +41,12 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private FlashcardListPanel flashcardListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
+    /** Number of commands submitted to the logic whose results have not been handled yet. */
+    private int pendingCommandCount;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -134,7 +137,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFlashBackFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getFlashBackFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -186,9 +189,9 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
-    private void handleView(int index) {
+    private void handleView(Flashcard flashcard) {
         clearViewArea();
-        FlashbackViewCard flashbackViewCard = new FlashbackViewCard(logic.getFilteredFlashcardList().get(index));
+        FlashbackViewCard flashbackViewCard = new FlashbackViewCard(flashcard);
         flashcardViewCardPlaceholder.getChildren().add(flashbackViewCard.getRoot());
     }
 
@@ -196,17 +199,11 @@ public class MainWindow extends UiPart<Stage> {
      * Handles the case when the user has requested to view flashcard(s) statistics.
      *
      * @param stats Statistics of the flashcard(s).
-     * @param statsIndex Index of the flashcard, if any.
+     * @param statsFlashcard The flashcard, if any.
      */
-    private void handleStats(Statistics stats, Optional<Index> statsIndex) {
+    private void handleStats(Statistics stats, Optional<Flashcard> statsFlashcard) {
         clearViewArea();
-        Optional<Question> question = Optional.empty();
-        if (statsIndex.isPresent()) {
-            int idx = statsIndex.get().getZeroBased();
-            assert(idx >= 0);
-            Flashcard flashcard = logic.getFilteredFlashcardList().get(idx);
-            question = Optional.of(flashcard.getQuestion());
-        }
+        Optional<Question> question = statsFlashcard.map(Flashcard::getQuestion);
         FlashbackStats flashbackStats = new FlashbackStats(stats, question);
         flashcardViewCardPlaceholder.getChildren().add(flashbackStats.getRoot());
     }
@@ -235,43 +232,48 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to the logic and returns its result, which is handled on the JavaFX application thread
+     * once the command has executed. The window stays responsive in the meantime.
      *
-     * @see seedu.flashback.logic.Logic#execute(String)
+     * @see seedu.flashback.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        statusBarFooter.setPendingCommandCount(++pendingCommandCount);
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            statusBarFooter.setPendingCommandCount(--pendingCommandCount);
+            if (error == null) {
+                handleCommandResult(commandResult);
+            } else {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+            }
+        }, Platform::runLater);
+    }
 
-            clearViewArea();
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+        clearViewArea();
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isShowView()) {
-                handleView(commandResult.getIndex());
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (commandResult.isReviewMode()) {
-                enterReviewMode(new ReviewMode(logic, this));
-            }
+        if (commandResult.isShowView()) {
+            handleView(commandResult.getViewFlashcard());
+        }
 
-            if (commandResult.isShowStats()) {
-                handleStats(commandResult.getStats(), commandResult.getStatsIndex());
-            }
+        if (commandResult.isReviewMode()) {
+            enterReviewMode(new ReviewMode(logic, this, commandResult.getReviewFlashcards()));
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowStats()) {
+            handleStats(commandResult.getStats(), commandResult.getStatsFlashcard());
         }
     }
 }
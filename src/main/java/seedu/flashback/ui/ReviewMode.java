@@ -1,19 +1,29 @@
 package seedu.flashback.ui;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
 import seedu.flashback.commons.core.LogsCenter;
 import seedu.flashback.logic.Logic;
 import seedu.flashback.logic.LogicManager;
 import seedu.flashback.logic.ReviewManager;
+import seedu.flashback.logic.commands.UpdateStatisticsCommand;
 import seedu.flashback.model.flashcard.Flashcard;
 
 
@@ -37,12 +47,24 @@ public class ReviewMode extends UiPart<Region> {
     private static final String ANSWER_NOT_REVEALED = "Please reveal the answer first before answering!";
     private static final String INVALID_COMMAND = "Invalid command in review mode";
     private static final String CARD_ANSWERED = "You have already reviewed this card!";
+    private static final String NO_CARDS_DUE = "There are no cards due for review";
+    /** How often the answers given so far are saved while the session lasts. */
+    private static final Duration COMMIT_INTERVAL = Duration.seconds(30);
+    /** How many of the cards after the current one are bound to view cards before they are shown. */
+    private static final int PREFETCH_COUNT = 2;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final ResultDisplay resultDisplay;
     private final ReviewManager manager;
     private final MainWindow parent;
+    private final Timeline commitTimeline;
     private boolean isAnswerShown;
     private Set<Integer> answeredIndices;
+    /**
+     * View cards of the current card, the next {@link #PREFETCH_COUNT} cards and the previous card, most recently
+     * used first. They are created once per session and rebound to other cards as the session moves on.
+     */
+    private final List<FlashbackViewCard> viewCards = new ArrayList<>();
+    private FlashbackViewCard currentViewCard;
 
     @FXML
     private TextField commandInReviewMode;
@@ -56,28 +78,40 @@ public class ReviewMode extends UiPart<Region> {
     private StackPane flashcardPlaceholderReviewMode;
 
     /**
-     * Create the {@code ReviewMode} with the reference to {@code MainWindow}.
+     * Create the {@code ReviewMode} with the reference to {@code MainWindow}, which reviews
+     * {@code reviewFlashcards} in order.
      */
-    public ReviewMode(Logic logic, MainWindow parent) {
+    public ReviewMode(Logic logic, MainWindow parent, List<Flashcard> reviewFlashcards) {
         super(FXML);
         this.parent = parent;
         this.resultDisplay = new ResultDisplay();
         this.answeredIndices = new HashSet<>();
         resultDisplayPlaceholderReviewMode.getChildren().add(resultDisplay.getRoot());
-        manager = new ReviewManager(logic);
+        manager = new ReviewManager(logic, reviewFlashcards);
         if (manager.getFlashcardDeckSize() > 0) {
             resultDisplay.setFeedbackToUser(ENTER_REVIEW_MODE + "\n" + INSTRUCTION);
-            FlashbackViewCard flashbackViewCard = new FlashbackViewCard(manager.getCurrentFlashcard());
-            flashbackViewCard.hideAnswer();
-            isAnswerShown = false;
-            flashcardPlaceholderReviewMode.getChildren().add(flashbackViewCard.getRoot());
+            for (int i = 0; i < PREFETCH_COUNT + 2; i++) {
+                viewCards.add(new FlashbackViewCard());
+            }
+            showCurrentFlashcard();
+        } else {
+            resultDisplay.setFeedbackToUser(NO_CARDS_DUE + "\n" + INSTRUCTION);
             setProgress();
         }
+        commitTimeline = new Timeline(new KeyFrame(COMMIT_INTERVAL, event -> commitAnswers()));
+        commitTimeline.setCycleCount(Animation.INDEFINITE);
+        commitTimeline.play();
     }
     @FXML
     private void handleCommandEnteredReview() {
         String command = commandInReviewMode.getText().trim();
         logger.info("----------------[USER COMMAND][" + command + "]");
+        if (manager.getFlashcardDeckSize() == 0 && !command.equals(QUIT_REVIEW_MODE)) {
+            // there is no current card to act on, so every command but quit is turned down
+            resultDisplay.setFeedbackToUser(NO_CARDS_DUE + "\n" + INSTRUCTION);
+            commandInReviewMode.setText("");
+            return;
+        }
         String feedback = "";
         switch (command) {
         case NEXT_CARD:
@@ -118,13 +152,8 @@ public class ReviewMode extends UiPart<Region> {
         String feedback = "";
         if (manager.hasNextFlashcard()) {
             manager.incrementCurrentIndex();
-            flashcardPlaceholderReviewMode.getChildren().clear();
-            FlashbackViewCard flashbackViewCard = new FlashbackViewCard(manager.getCurrentFlashcard());
-            flashbackViewCard.hideAnswer();
-            isAnswerShown = false;
-            flashcardPlaceholderReviewMode.getChildren().add(flashbackViewCard.getRoot());
+            showCurrentFlashcard();
             feedback = "Show next flashcard";
-            setProgress();
         } else {
             feedback = "No more cards to show";
         }
@@ -139,13 +168,8 @@ public class ReviewMode extends UiPart<Region> {
         String feedback = "";
         if (manager.hasPreviousFlashcard()) {
             manager.decrementCurrentIndex();
-            flashcardPlaceholderReviewMode.getChildren().clear();
-            FlashbackViewCard flashbackViewCard = new FlashbackViewCard(manager.getCurrentFlashcard());
-            flashbackViewCard.hideAnswer();
-            isAnswerShown = false;
-            flashcardPlaceholderReviewMode.getChildren().add(flashbackViewCard.getRoot());
+            showCurrentFlashcard();
             feedback = "Show previous flashcard";
-            setProgress();
         } else {
             feedback = "No previous card to show";
         }
@@ -153,10 +177,50 @@ public class ReviewMode extends UiPart<Region> {
         return feedback;
     }
 
+    /**
+     * Displays the current flashcard with its answer hidden, then binds the next few flashcards to view cards
+     * so that they are ready when the user moves on.
+     */
+    private void showCurrentFlashcard() {
+        Flashcard currentFlashcard = manager.getCurrentFlashcard();
+        List<Flashcard> upcomingFlashcards = manager.getUpcomingFlashcards(PREFETCH_COUNT);
+        for (int i = upcomingFlashcards.size() - 1; i >= 0; i--) {
+            bindViewCard(upcomingFlashcards.get(i));
+        }
+        currentViewCard = bindViewCard(currentFlashcard);
+        currentViewCard.hideAnswer();
+        isAnswerShown = false;
+        flashcardPlaceholderReviewMode.getChildren().setAll(currentViewCard.getRoot());
+        setProgress();
+    }
+
+    /**
+     * Returns the view card bound to {@code flashcard}, rebinding the least recently used view card if there is none.
+     */
+    private FlashbackViewCard bindViewCard(Flashcard flashcard) {
+        FlashbackViewCard viewCard = null;
+        for (Iterator<FlashbackViewCard> iterator = viewCards.iterator(); iterator.hasNext();) {
+            FlashbackViewCard candidate = iterator.next();
+            if (candidate.getFlashcard() == flashcard) {
+                viewCard = candidate;
+                iterator.remove();
+                break;
+            }
+        }
+        if (viewCard == null) {
+            viewCard = viewCards.remove(viewCards.size() - 1);
+            viewCard.setFlashcard(flashcard);
+        }
+        viewCards.add(0, viewCard);
+        return viewCard;
+    }
+
     /**
      * Exits the review mode and goes back to the main window.
      */
     private String handleQuitCommand() {
+        commitTimeline.stop();
+        commitAnswers();
         parent.exitReviewMode();
         return EXIT_REVIEW_MODE;
     }
@@ -167,9 +231,7 @@ public class ReviewMode extends UiPart<Region> {
     private String handleShowAnswerCommand() {
         String feedback = "";
         if (!isAnswerShown) {
-            flashcardPlaceholderReviewMode.getChildren().clear();
-            FlashbackViewCard flashbackViewCard = new FlashbackViewCard(manager.getCurrentFlashcard());
-            flashcardPlaceholderReviewMode.getChildren().add(flashbackViewCard.getRoot());
+            currentViewCard.showAnswer();
             isAnswerShown = true;
             feedback = "The answer is shown, did you get it correct? (t/f)";
         } else {
@@ -185,10 +247,7 @@ public class ReviewMode extends UiPart<Region> {
     private String handleHideAnswerCommand() {
         String feedback = "";
         if (isAnswerShown) {
-            flashcardPlaceholderReviewMode.getChildren().clear();
-            FlashbackViewCard flashbackViewCard = new FlashbackViewCard(manager.getCurrentFlashcard());
-            flashbackViewCard.hideAnswer();
-            flashcardPlaceholderReviewMode.getChildren().add(flashbackViewCard.getRoot());
+            currentViewCard.hideAnswer();
             isAnswerShown = false;
             feedback = "Hide answer";
         } else {
@@ -213,7 +272,8 @@ public class ReviewMode extends UiPart<Region> {
         if (isAnswerShown && !cardAnswered) {
             Flashcard currCard = manager.getCurrentFlashcard();
             answeredIndices.add(currIdx);
-            feedback = isCorrect ? manager.updateCardCorrect(currCard) : manager.updateCardWrong(currCard);
+            reportFailure(isCorrect ? manager.updateCardCorrect(currCard) : manager.updateCardWrong(currCard));
+            feedback = isCorrect ? UpdateStatisticsCommand.CORRECT_ANS_MSG : UpdateStatisticsCommand.WRONG_ANS_MSG;
         } else if (isAnswerShown && cardAnswered) {
             feedback = CARD_ANSWERED;
         } else {
@@ -223,6 +283,26 @@ public class ReviewMode extends UiPart<Region> {
         return feedback;
     }
 
+    /**
+     * Saves the answers given since the last save. Answers that fail to save stay in the model and are saved
+     * with the next change.
+     */
+    private void commitAnswers() {
+        reportFailure(manager.commitReviewSession());
+    }
+
+    /**
+     * Shows the error that {@code answerTask} failed with, if any, once the writer thread is done with it.
+     */
+    private void reportFailure(CompletableFuture<Void> answerTask) {
+        answerTask.whenCompleteAsync((unused, error) -> {
+            if (error != null) {
+                logger.warning("Failed to save reviewed flash cards: " + error.getMessage());
+                resultDisplay.setFeedbackToUser(error.getMessage() + "\n" + INSTRUCTION);
+            }
+        }, Platform::runLater);
+    }
+
     /**
      * Checks if a flash card has been reviewed by the user.
      *
@@ -246,11 +326,11 @@ public class ReviewMode extends UiPart<Region> {
      * Update the progress when the user type "n" or "p" command.
      */
     private void setProgress() {
-        int currentIndex = manager.getCurrentIndex() + 1;
         int totalFlashcards = manager.getFlashcardDeckSize();
+        int currentIndex = totalFlashcards == 0 ? 0 : manager.getCurrentIndex() + 1;
         String text = "Question " + currentIndex + "/" + totalFlashcards;
         progressLabel.setText(text);
-        double completedPercentage = (double) currentIndex / (double) totalFlashcards;
+        double completedPercentage = totalFlashcards == 0 ? 0 : (double) currentIndex / (double) totalFlashcards;
         progressBar.setProgress(completedPercentage);
     }
 }
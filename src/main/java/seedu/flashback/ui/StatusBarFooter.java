@@ -13,10 +13,14 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String BUSY_MESSAGE = "Executing %1$d command(s)...";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label busyStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +29,12 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code pendingCommandCount} commands are waiting to be executed, or hides the indicator if none are.
+     */
+    public void setPendingCommandCount(int pendingCommandCount) {
+        busyStatus.setText(String.format(BUSY_MESSAGE, pendingCommandCount));
+        busyStatus.setVisible(pendingCommandCount > 0);
+    }
+
 }
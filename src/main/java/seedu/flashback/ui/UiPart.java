@@ -2,8 +2,13 @@ package seedu.flashback.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.flashback.MainApp;
@@ -11,12 +16,18 @@ import seedu.flashback.MainApp;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ *
+ * The content of each FXML file is read once and kept, so parts that are created often, such as list cells,
+ * do not read the file again every time.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /** The content of each FXML file loaded so far, by URL. URLs are compared as strings, not with URL#equals. */
+    private static final Map<String, byte[]> fxmlTemplates = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -69,12 +80,25 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
-        } catch (IOException e) {
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlTemplate(location)));
+        } catch (IOException | UncheckedIOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the content of the FXML document at {@code location}, reading it on first use.
+     */
+    private static byte[] getFxmlTemplate(URL location) {
+        return fxmlTemplates.computeIfAbsent(location.toExternalForm(), key -> {
+            try (InputStream inputStream = location.openStream()) {
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
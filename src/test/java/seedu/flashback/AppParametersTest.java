@@ -37,6 +37,23 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScriptPath_success() {
+        parametersStub.namedParameters.put("batch", "script.txt");
+        expected.setBatchMode(true);
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchMode(true);
+        assertEquals(expected, AppParameters.parse(List.of("--config=config.json", "--batch=-", "unnamed")));
+
+        assertEquals(new AppParameters(), AppParameters.parse(List.of("--batch", "--=script.txt")));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
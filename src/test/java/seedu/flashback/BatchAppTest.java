@@ -0,0 +1,119 @@
+package seedu.flashback;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashback.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.flashback.logic.commands.CommandTestUtil.ANSWER_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.CATEGORY_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.PRIORITY_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.QUESTION_DESC_EINSTEIN;
+import static seedu.flashback.logic.parser.CliSyntax.PREFIX_QUESTION;
+import static seedu.flashback.testutil.TypicalFlashcards.EINS;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashback.commons.core.Config;
+import seedu.flashback.commons.util.ConfigUtil;
+import seedu.flashback.logic.commands.AddCommand;
+import seedu.flashback.logic.commands.ClearCommand;
+import seedu.flashback.logic.commands.ListCommand;
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.UserPrefs;
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.storage.JsonFlashBackStorage;
+import seedu.flashback.storage.JsonUserPrefsStorage;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class BatchAppTest {
+    private static final String ADD_EINSTEIN = AddCommand.COMMAND_WORD + QUESTION_DESC_EINSTEIN
+            + ANSWER_DESC_EINSTEIN + CATEGORY_DESC_EINSTEIN + PRIORITY_DESC_EINSTEIN;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path configPath;
+    private Path scriptPath;
+    private JsonFlashBackStorage flashBackStorage;
+    private final StringWriter out = new StringWriter();
+    private final StringWriter err = new StringWriter();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        flashBackStorage = new JsonFlashBackStorage(temporaryFolder.resolve("flashback.json"));
+        flashBackStorage.saveFlashBack(new FlashBack());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFlashBackFilePath(flashBackStorage.getFlashBackFilePath());
+        Path userPrefsPath = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsPath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsPath);
+        configPath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+
+        scriptPath = temporaryFolder.resolve("script.txt");
+    }
+
+    @Test
+    public void run_validScript_success() throws Exception {
+        Files.write(scriptPath, List.of("# comments and blank lines are skipped", "", ClearCommand.COMMAND_WORD,
+                ADD_EINSTEIN, ListCommand.COMMAND_WORD));
+
+        assertEquals(BatchApp.EXIT_SUCCESS, runScript());
+        assertEquals(List.of(ClearCommand.MESSAGE_SUCCESS,
+                String.format(AddCommand.MESSAGE_SUCCESS, EINS).split("\n")[0]),
+                List.of(out.toString().split(System.lineSeparator())).subList(0, 2));
+        assertEquals("", err.toString());
+        assertEquals(List.of(new FlashcardBuilder(EINS).withTags().build()), readFlashBack().getCardList());
+    }
+
+    @Test
+    public void run_failedCommand_continuesAndReportsLine() throws Exception {
+        Files.write(scriptPath, List.of("uicfhmowqewca", "", ADD_EINSTEIN, ADD_EINSTEIN));
+
+        assertEquals(BatchApp.EXIT_COMMAND_FAILED, runScript());
+        String[] errors = err.toString().split(System.lineSeparator());
+        assertEquals("Line 1: " + MESSAGE_UNKNOWN_COMMAND, errors[0]);
+        assertEquals("Line 4: " + AddCommand.MESSAGE_DUPLICATE_FLASHCARD, errors[1]);
+        assertEquals(1, readFlashBack().getCardList().size());
+    }
+
+    @Test
+    public void run_moreCommandsThanChunk_allExecutedInOrder() throws Exception {
+        StringBuilder script = new StringBuilder();
+        int commandCount = BatchApp.CHUNK_SIZE + 10;
+        for (int i = 0; i < commandCount; i++) {
+            script.append(AddCommand.COMMAND_WORD).append(" " + PREFIX_QUESTION + "Question ").append(i)
+                    .append(ANSWER_DESC_EINSTEIN + CATEGORY_DESC_EINSTEIN + PRIORITY_DESC_EINSTEIN).append('\n');
+        }
+        Files.writeString(scriptPath, script);
+
+        assertEquals(BatchApp.EXIT_SUCCESS, runScript());
+        List<Flashcard> cards = readFlashBack().getCardList();
+        assertEquals(commandCount, cards.size());
+        assertEquals("Question " + (commandCount - 1), cards.get(commandCount - 1).getQuestion().fullQuestion);
+    }
+
+    @Test
+    public void run_missingScript_scriptUnreadable() {
+        assertEquals(BatchApp.EXIT_SCRIPT_UNREADABLE, runScript());
+    }
+
+    private int runScript() {
+        AppParameters appParameters = AppParameters.parse(List.of("--config=" + configPath, "--batch=" + scriptPath));
+        return new BatchApp(appParameters).run(new PrintWriter(out), new PrintWriter(err));
+    }
+
+    private ReadOnlyFlashBack readFlashBack() throws Exception {
+        return flashBackStorage.readFlashBack().get();
+    }
+}
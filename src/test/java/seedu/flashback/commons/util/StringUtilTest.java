@@ -1,10 +1,12 @@
 package seedu.flashback.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -247,6 +249,21 @@ public class StringUtilTest {
         assertTrue(StringUtil.sentenceContainsPartWordIgnoreCase("AAA bBb ccc  bbb", "bB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_validWords_trimmedAndLowerCase() {
+        assertEquals(Arrays.asList("abc", "d@1"), StringUtil.toLowerCaseWords(Arrays.asList("  ABc ", "D@1")));
+    }
+
+    @Test
+    public void toLowerCaseWords_invalidWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toLowerCaseWords(Arrays.asList("abc", "  ")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toLowerCaseWords(Arrays.asList("aaa BBB")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,24 +1,37 @@
 package seedu.flashback.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.commons.core.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
 import static seedu.flashback.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.flashback.logic.commands.CommandTestUtil.ANSWER_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.ANSWER_DESC_OCTOPUS;
 import static seedu.flashback.logic.commands.CommandTestUtil.CATEGORY_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.CATEGORY_DESC_OCTOPUS;
 import static seedu.flashback.logic.commands.CommandTestUtil.PRIORITY_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.PRIORITY_DESC_OCTOPUS;
 import static seedu.flashback.logic.commands.CommandTestUtil.QUESTION_DESC_EINSTEIN;
+import static seedu.flashback.logic.commands.CommandTestUtil.QUESTION_DESC_OCTOPUS;
 import static seedu.flashback.testutil.Assert.assertThrows;
+import static seedu.flashback.testutil.TypicalFlashcards.AT;
 import static seedu.flashback.testutil.TypicalFlashcards.EINS;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.flashback.logic.commands.AddCommand;
+import seedu.flashback.logic.commands.Command;
 import seedu.flashback.logic.commands.CommandResult;
+import seedu.flashback.logic.commands.DeleteCommand;
 import seedu.flashback.logic.commands.ListCommand;
 import seedu.flashback.logic.commands.exceptions.CommandException;
 import seedu.flashback.logic.parser.exceptions.ParseException;
@@ -27,6 +40,7 @@ import seedu.flashback.model.ModelManager;
 import seedu.flashback.model.ReadOnlyFlashBack;
 import seedu.flashback.model.UserPrefs;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.storage.AsyncFlashBackStorage;
 import seedu.flashback.storage.JsonFlashBackStorage;
 import seedu.flashback.storage.JsonUserPrefsStorage;
 import seedu.flashback.storage.StorageManager;
@@ -90,6 +104,117 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonFlashBackStorage addressBookStorage =
+                new JsonFlashBackIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_savedByNextCommand() throws Exception {
+        Path filePath = temporaryFolder.resolve("failingOnceAddressBook.json");
+        AsyncFlashBackStorage addressBookStorage =
+                new AsyncFlashBackStorage(new JsonFlashBackFailingOnceStub(filePath), 60_000);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + QUESTION_DESC_EINSTEIN + ANSWER_DESC_EINSTEIN
+                + CATEGORY_DESC_EINSTEIN + PRIORITY_DESC_EINSTEIN);
+        assertThrows(IOException.class, storage::flushFlashBack);
+
+        // the failed write left FlashBack unsaved, so even a read-only command saves it again
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushFlashBack();
+        assertEquals(model.getFlashBack().getCardList(), storage.readFlashBack().get().getCardList());
+    }
+
+    @Test
+    public void recordReview_buffersUntilCommit() throws Exception {
+        model = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        JsonFlashBackStorage addressBookStorage =
+                new JsonFlashBackIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        Flashcard first = model.getFilteredFlashcardList().get(0);
+        Flashcard second = model.getFilteredFlashcardList().get(1);
+
+        // answers are neither applied nor saved until the session is committed
+        logic.recordReview(first, first.getStats().review(true, 0));
+        logic.recordReview(second, second.getStats().review(false, 0)).get();
+        assertEquals(first, model.getFilteredFlashcardList().get(0));
+
+        // both answers are applied, then saved together
+        CompletableFuture<Void> commit = logic.commitReviewSession();
+        assertThrows(ExecutionException.class, () -> commit.get());
+        assertTrue(commit.handle((unused, e) -> e).join() instanceof CommandException);
+        assertEquals(first.getStats().review(true, 0), model.getFilteredFlashcardList().get(0).getStats());
+        assertEquals(second.getStats().review(false, 0), model.getFilteredFlashcardList().get(1).getStats());
+
+        // nothing is left to save
+        logic.commitReviewSession().get();
+    }
+
+    @Test
+    public void commitReviewSession_reviewedCardDeleted_otherAnswersSaved() throws Exception {
+        model = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        setUp();
+        Flashcard first = model.getFilteredFlashcardList().get(0);
+        Flashcard second = model.getFilteredFlashcardList().get(1);
+        logic.recordReview(first, first.getStats().review(true, 0));
+        logic.recordReview(second, second.getStats().review(false, 0));
+
+        // the first card is deleted while its answer is buffered
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logic.commitReviewSession().get();
+        assertFalse(model.hasFlashcard(first));
+        assertEquals(second.getStats().review(false, 0), model.getFilteredFlashcardList().get(0).getStats());
+    }
+
+    @Test
+    public void executeAsync_validCommands_executedInSubmissionOrder() throws Exception {
+        logic.executeAsync(AddCommand.COMMAND_WORD + QUESTION_DESC_EINSTEIN + ANSWER_DESC_EINSTEIN
+                + CATEGORY_DESC_EINSTEIN + PRIORITY_DESC_EINSTEIN);
+        logic.executeAsync(AddCommand.COMMAND_WORD + QUESTION_DESC_OCTOPUS + ANSWER_DESC_OCTOPUS
+                + CATEGORY_DESC_OCTOPUS + PRIORITY_DESC_OCTOPUS);
+        CompletableFuture<CommandResult> delete = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+
+        // the delete waits for both adds, and the synchronous API waits for the delete
+        delete.get();
+        assertEquals(List.of(new FlashcardBuilder(AT).withTags().build()), model.getFilteredFlashcardList());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        assertThrows(ExecutionException.class, () -> result.get());
+
+        Throwable error = result.handle((commandResult, e) -> e).join();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void execute_commandThrowsError_rethrowsError() throws Exception {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new AssertionError("Command failed");
+            }
+        };
+        assertThrows(AssertionError.class, "Command failed", () -> logic.execute(failingCommand));
+
+        // the writer thread keeps running commands after the error
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredFlashcardList().remove(0));
@@ -148,6 +273,26 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class to throw an {@code IOException} the first time the save method is called.
+     */
+    private static class JsonFlashBackFailingOnceStub extends JsonFlashBackStorage {
+        private boolean hasFailed;
+
+        private JsonFlashBackFailingOnceStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveFlashBack(flashBack, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -4,10 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.TypicalFlashcards.EINSTEIN;
+import static seedu.flashback.testutil.TypicalFlashcards.NEWTON;
+import static seedu.flashback.testutil.TypicalFlashcards.PYTHAGOREAN;
 import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
-import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashcardsShuffle;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashcards;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +31,8 @@ import seedu.flashback.model.ModelManager;
 import seedu.flashback.model.ReadOnlyFlashBack;
 import seedu.flashback.model.UserPrefs;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
+import seedu.flashback.testutil.FlashcardBuilder;
 
 public class ReviewManagerTest {
     private Model model;
@@ -30,16 +40,16 @@ public class ReviewManagerTest {
     @BeforeEach
     public void setUp() {
         model = new ModelManager(getTypicalFlashBack(), new UserPrefs());
-        manager = new ReviewManager(new LogicStub(model));
+        manager = new ReviewManager(new LogicStub(model), model.getReviewQueue().getDue(System.currentTimeMillis()));
     }
     @Test
     public void execute_getFirstFlashcard_success() {
-        Flashcard expectedFlashcard = getTypicalFlashcardsShuffle().get(0);
+        Flashcard expectedFlashcard = getTypicalFlashcards().get(0);
         assertEquals(expectedFlashcard, manager.getCurrentFlashcard());
     }
     @Test
     public void execute_getSecondFlashcard_success() {
-        Flashcard expectedFlashcard = getTypicalFlashcardsShuffle().get(1);
+        Flashcard expectedFlashcard = getTypicalFlashcards().get(1);
         manager.incrementCurrentIndex();
         assertEquals(expectedFlashcard, manager.getCurrentFlashcard());
     }
@@ -70,6 +80,20 @@ public class ReviewManagerTest {
         assertFalse(manager.hasNextFlashcard());
     }
     @Test
+    public void execute_cardsNotDue_skipped() {
+        long now = 1_000_000L;
+        Flashcard reviewedEinstein = new FlashcardBuilder(EINSTEIN).withStats(new Statistics().review(true, now))
+                .build();
+        model.setFlashcard(EINSTEIN, reviewedEinstein);
+        manager = new ReviewManager(new LogicStub(model), model.getReviewQueue().getDue(now),
+                Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+
+        assertEquals(6, manager.getFlashcardDeckSize());
+        assertEquals(PYTHAGOREAN, manager.getCurrentFlashcard());
+        manager.incrementCurrentIndex();
+        assertEquals(NEWTON, manager.getCurrentFlashcard());
+    }
+    @Test
     public void execute_getCurrentIndex_success() {
         assertEquals(0, manager.getCurrentIndex());
         manager.incrementCurrentIndex();
@@ -77,6 +101,25 @@ public class ReviewManagerTest {
         manager.decrementCurrentIndex();
         assertEquals(0, manager.getCurrentIndex());
     }
+    @Test
+    public void execute_getUpcomingFlashcards_matchesSessionOrder() {
+        List<Flashcard> typicalFlashcards = getTypicalFlashcards();
+        assertEquals(typicalFlashcards.subList(1, 3), manager.getUpcomingFlashcards(2));
+
+        manager.incrementCurrentIndex();
+        assertEquals(typicalFlashcards.get(1), manager.getCurrentFlashcard());
+        assertEquals(typicalFlashcards.subList(2, 7), manager.getUpcomingFlashcards(10));
+        manager.incrementCurrentIndex();
+        assertEquals(typicalFlashcards.get(2), manager.getCurrentFlashcard());
+    }
+    @Test
+    public void execute_getUpcomingFlashcardsFromLastCard_empty() {
+        for (int i = 0; i < 6; i++) {
+            manager.incrementCurrentIndex();
+        }
+        assertTrue(manager.getUpcomingFlashcards(2).isEmpty());
+        assertFalse(manager.hasNextFlashcard());
+    }
     /**
      * A default stub that have all of the methods return null,
      * except for {@code getFilteredFlashcardList()} method that returns the current filtered flashcard list
@@ -97,6 +140,21 @@ public class ReviewManagerTest {
             return null;
         }
 
+        @Override
+        public CompletableFuture<CommandResult> executeAsync(String commandText) {
+            return null;
+        }
+
+        @Override
+        public CompletableFuture<Void> recordReview(Flashcard reviewedCard, Statistics updatedStats) {
+            return null;
+        }
+
+        @Override
+        public CompletableFuture<Void> commitReviewSession() {
+            return null;
+        }
+
         @Override
         public ReadOnlyFlashBack getFlashBack() {
             return null;
@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,8 @@ import seedu.flashback.model.Model;
 import seedu.flashback.model.ReadOnlyFlashBack;
 import seedu.flashback.model.ReadOnlyUserPrefs;
 import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.ReviewQueue;
+import seedu.flashback.model.flashcard.Statistics;
 import seedu.flashback.testutil.FlashcardBuilder;
 
 public class AddCommandTest {
@@ -125,6 +128,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Statistics getFlashBackStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Statistics getFilteredFlashcardStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markFlashBackSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markFlashBackUnsaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasFlashcard(Flashcard flashcard) {
             throw new AssertionError("This method should not be called.");
@@ -140,11 +168,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Flashcard> getFilteredFlashcardList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReviewQueue getReviewQueue() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredFlashcardList(Predicate<Flashcard> predicate) {
             throw new AssertionError("This method should not be called.");
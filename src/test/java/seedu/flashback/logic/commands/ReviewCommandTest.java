@@ -1,16 +1,22 @@
 package seedu.flashback.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.flashback.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.flashback.logic.commands.ReviewCommand.MESSAGE_NO_CARDS_DUE;
 import static seedu.flashback.logic.commands.ReviewCommand.MESSAGE_REVIEW_FAIL;
 import static seedu.flashback.logic.commands.ReviewCommand.MESSAGE_REVIEW_SUCCESS;
 import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashcards;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.flashback.model.Model;
 import seedu.flashback.model.ModelManager;
 import seedu.flashback.model.UserPrefs;
+import seedu.flashback.model.flashcard.Statistics;
+import seedu.flashback.testutil.FlashcardBuilder;
 
 public class ReviewCommandTest {
     private Model model = new ModelManager(getTypicalFlashBack(), new UserPrefs());
@@ -21,6 +27,20 @@ public class ReviewCommandTest {
         assertCommandSuccess(new ReviewCommand(), model, expectedCommandResult, expectedModel);
     }
     @Test
+    public void execute_review_returnsDueFlashcards() throws Exception {
+        CommandResult commandResult = new ReviewCommand().execute(model);
+        assertTrue(commandResult.isReviewMode());
+        assertEquals(getTypicalFlashcards(), commandResult.getReviewFlashcards());
+    }
+    @Test
+    public void execute_noCardsDue_throwsCommandException() {
+        Model reviewedModel = new ModelManager();
+        Statistics notDue = new Statistics(1, 1, Long.MAX_VALUE, Statistics.DEFAULT_EASE_FACTOR, 1, 1);
+        getTypicalFlashcards().forEach(flashcard ->
+                reviewedModel.addFlashcard(new FlashcardBuilder(flashcard).withStats(notDue).build()));
+        assertCommandFailure(new ReviewCommand(), reviewedModel, MESSAGE_NO_CARDS_DUE);
+    }
+    @Test
     public void execute_emptyFlashBack_throwsCommandException() {
         Model emptyModel = new ModelManager();
         assertCommandFailure(new ReviewCommand(), emptyModel, MESSAGE_REVIEW_FAIL);
@@ -6,12 +6,14 @@ import static seedu.flashback.logic.commands.SortCommand.*;
 import static seedu.flashback.testutil.TypicalFlashcards.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.flashback.model.Model;
 import seedu.flashback.model.ModelManager;
 import seedu.flashback.model.UserPrefs;
+import seedu.flashback.model.flashcard.FlashcardSortOrder;
 import seedu.flashback.model.flashcard.SortOptions;
 
 public class SortCommandTest {
@@ -79,4 +81,16 @@ public class SortCommandTest {
         assertEquals(Arrays.asList(MERGE, ACID, EINSTEIN, PYTHAGOREAN, NEWTON, ATP, RECURSION),
                 model.getFilteredFlashcardList());
     }
+
+    @Test
+    public void execute_multipleOptions_success() {
+        List<SortOptions> options = Arrays.asList(SortOptions.PRIORITY_DESCENDING, SortOptions.QUESTION_DESCENDING);
+        String expectedMessage = String.format(MESSAGE_SORTED_MULTIPLE,
+                "priority descending, then question descending");
+        SortCommand sortCommand = new SortCommand(options);
+        expectedModel.sortFilteredFlashcardList(new FlashcardSortOrder(options));
+        assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(MERGE, ACID, EINSTEIN, RECURSION, ATP, PYTHAGOREAN, NEWTON),
+                model.getFilteredFlashcardList());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.flashback.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -30,7 +31,8 @@ public class StatsCommandTest {
         Optional<Index> idx = Optional.of(INDEX_FIRST_FLASHCARD);
         StatsCommand statsCommand = new StatsCommand(idx);
         String expectedMessage = StatsCommand.MESSAGE_SHOW_CARD_STATS_SUCCESS;
-        CommandResult expectedCommandResult = new CommandResult(expectedMessage, idx, flashcardToShowStats.getStats());
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage,
+                Optional.of(flashcardToShowStats), flashcardToShowStats.getStats());
         assertCommandSuccess(statsCommand, model, expectedCommandResult, model);
     }
 
@@ -48,7 +50,8 @@ public class StatsCommandTest {
         Optional<Index> idx = Optional.of(INDEX_FIRST_FLASHCARD);
         StatsCommand statsCommand = new StatsCommand(idx);
         String expectedMessage = StatsCommand.MESSAGE_SHOW_CARD_STATS_SUCCESS;
-        CommandResult expectedCommandResult = new CommandResult(expectedMessage, idx, flashcardToShowStats.getStats());
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage,
+                Optional.of(flashcardToShowStats), flashcardToShowStats.getStats());
         assertCommandSuccess(statsCommand, model, expectedCommandResult, model);
     }
 
@@ -71,6 +74,14 @@ public class StatsCommandTest {
         assertCommandSuccess(statsCommand, model, expectedCommandResult, model);
     }
 
+    @Test
+    public void execute_validIndex_resultHoldsShownCard() throws Exception {
+        Flashcard shownCard = model.getFilteredFlashcardList().get(INDEX_SECOND_FLASHCARD.getZeroBased());
+        CommandResult result = new StatsCommand(Optional.of(INDEX_SECOND_FLASHCARD)).execute(model);
+        assertEquals(Optional.of(shownCard), result.getStatsFlashcard());
+        assertEquals(Optional.empty(), new StatsCommand(Optional.empty()).execute(model).getStatsFlashcard());
+    }
+
     @Test
     public void equals() {
         StatsCommand statsFirstCommand = new StatsCommand(Optional.of(INDEX_FIRST_FLASHCARD));
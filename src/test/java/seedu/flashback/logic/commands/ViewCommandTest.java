@@ -24,8 +24,7 @@ public class ViewCommandTest {
         Flashcard viewCard = model.getFilteredFlashcardList().get(INDEX_FIRST_FLASHCARD.getZeroBased());
         ViewCommand viewCommand = new ViewCommand(INDEX_FIRST_FLASHCARD);
         CommandResult expectedCommandResult = new CommandResult(
-                String.format(ViewCommand.MESSAGE_VIEW_SUCCESS, viewCard),
-                INDEX_FIRST_FLASHCARD.getZeroBased());
+                String.format(ViewCommand.MESSAGE_VIEW_SUCCESS, viewCard), viewCard);
         assertCommandSuccess(viewCommand, model, expectedCommandResult, model);
     }
 
@@ -43,8 +42,7 @@ public class ViewCommandTest {
                 .get(INDEX_FIRST_FLASHCARD.getZeroBased());
         ViewCommand viewCommand = new ViewCommand(INDEX_FIRST_FLASHCARD);
         CommandResult expectedCommandResult = new CommandResult(
-                String.format(ViewCommand.MESSAGE_VIEW_SUCCESS, viewCard),
-                INDEX_FIRST_FLASHCARD.getZeroBased());
+                String.format(ViewCommand.MESSAGE_VIEW_SUCCESS, viewCard), viewCard);
         assertCommandSuccess(viewCommand, model, expectedCommandResult, model);
     }
 
@@ -56,6 +54,12 @@ public class ViewCommandTest {
         ViewCommand viewCommand = new ViewCommand(outOfBoundIndex);
         assertCommandFailure(viewCommand, model, Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
     }
+    @Test
+    public void execute_validIndex_resultHoldsViewedCard() throws Exception {
+        Flashcard viewCard = model.getFilteredFlashcardList().get(INDEX_SECOND_FLASHCARD.getZeroBased());
+        assertSame(viewCard, new ViewCommand(INDEX_SECOND_FLASHCARD).execute(model).getViewFlashcard());
+    }
+
     @Test
     public void equals() {
         ViewCommand viewFirstCommand = new ViewCommand(INDEX_FIRST_FLASHCARD);
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,36 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix dash = new Prefix("-");
+        String argsString = "SomePreambleString -tdashT value - dash value -";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+        assertArgumentPresent(argMultimap, dash, "dash value", "");
+    }
+
+    @Test
+    public void tokenizeArgs_reusedTokenizer_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArgs("SomePreambleString -t dashT-Value p/pSlash value");
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+
+        argMultimap = tokenizer.tokenizeArgs(" ^Q111");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+        assertArgumentPresent(argMultimap, hatQ, "111");
+    }
+
+    @Test
+    public void constructor_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(pSlash, new Prefix("")));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,6 +1,7 @@
 package seedu.flashback.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.flashback.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -28,6 +29,8 @@ import seedu.flashback.logic.commands.FindCommand;
 import seedu.flashback.logic.commands.HelpCommand;
 import seedu.flashback.logic.commands.ListCommand;
 import seedu.flashback.logic.parser.exceptions.ParseException;
+import seedu.flashback.model.Model;
+import seedu.flashback.model.ModelManager;
 import seedu.flashback.model.flashcard.Flashcard;
 import seedu.flashback.model.flashcard.FlashcardContainsKeywordsPredicate;
 import seedu.flashback.model.flashcard.FlashcardFilterPredicate;
@@ -148,6 +151,36 @@ public class FlashBackParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_alias() throws Exception {
+        Model model = new ModelManager();
+        model.addAlias(ListCommand.COMMAND_WORD, "ls");
+        parser.setModel(model);
+        assertTrue(parser.parseCommand("ls") instanceof ListCommand);
+        assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_registeredCommand() throws Exception {
+        ClearCommand clearCommand = new ClearCommand();
+        parser.registerCommand("wipe", arguments -> clearCommand);
+        assertSame(clearCommand, parser.parseCommand("wipe"));
+
+        // registering again replaces the parser
+        parser.registerCommand(ClearCommand.COMMAND_WORD, arguments -> clearCommand);
+        assertSame(clearCommand, parser.parseCommand(ClearCommand.COMMAND_WORD + " 3"));
+
+        // other parsers do not see the registration
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> new FlashBackParser().parseCommand("wipe"));
+    }
+
+    @Test
+    public void registerCommand_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand("", arguments -> new ClearCommand()));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand("wipe all", arguments
+            -> new ClearCommand()));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
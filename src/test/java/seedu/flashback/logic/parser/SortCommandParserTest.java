@@ -4,6 +4,8 @@ import static seedu.flashback.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORM
 import static seedu.flashback.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.flashback.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.flashback.logic.commands.SortCommand;
@@ -18,6 +20,10 @@ public class SortCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "question -t",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "priority -d rate",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "priority -d category -a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
 
     @Test
@@ -25,5 +31,10 @@ public class SortCommandParserTest {
         SortCommand expectedSortCommand = new SortCommand(SortOptions.QUESTION_DESCENDING);
         assertParseSuccess(parser, "question -d", expectedSortCommand);
         assertParseSuccess(parser, " question -d  ", expectedSortCommand); // with leading and trailing spaces
+
+        // several options
+        SortCommand expectedMultipleSortCommand = new SortCommand(Arrays.asList(SortOptions.PRIORITY_DESCENDING,
+                SortOptions.RATE_ASCENDING, SortOptions.QUESTION_ASCENDING));
+        assertParseSuccess(parser, "priority -d rate -a  question -a", expectedMultipleSortCommand);
     }
 }
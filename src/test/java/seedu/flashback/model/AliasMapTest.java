@@ -0,0 +1,114 @@
+package seedu.flashback.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashback.commons.util.JsonUtil;
+import seedu.flashback.logic.commands.AddCommand;
+import seedu.flashback.logic.commands.DeleteCommand;
+
+public class AliasMapTest {
+
+    private final AliasMap aliasMap = new AliasMap();
+
+    @Test
+    public void addAlias_manyAliasesForCommand_allKept() {
+        aliasMap.addAlias(AddCommand.COMMAND_WORD, "ad");
+        aliasMap.addAlias(AddCommand.COMMAND_WORD, "new");
+        aliasMap.addAlias(DeleteCommand.COMMAND_WORD, "d");
+
+        assertEquals(List.of("ad", "new"), aliasMap.getAliases(AddCommand.COMMAND_WORD));
+        assertEquals(AddCommand.COMMAND_WORD, aliasMap.parseAlias("ad"));
+        assertEquals(AddCommand.COMMAND_WORD, aliasMap.parseAlias("new"));
+        assertEquals(DeleteCommand.COMMAND_WORD, aliasMap.parseAlias("d"));
+        assertFalse(aliasMap.isCorrupted());
+    }
+
+    @Test
+    public void addAlias_invalidAlias_throwsUnableToAddAliasException() {
+        aliasMap.addAlias(AddCommand.COMMAND_WORD, "ad");
+
+        // alias already used
+        assertThrows(AliasMap.UnableToAddAliasException.class, () ->
+                aliasMap.addAlias(DeleteCommand.COMMAND_WORD, "ad"));
+
+        // alias is a command
+        assertThrows(AliasMap.UnableToAddAliasException.class, () ->
+                aliasMap.addAlias(AddCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD));
+
+        // command does not exist
+        assertThrows(AliasMap.UnableToAddAliasException.class, () -> aliasMap.addAlias("invalid", "inv"));
+    }
+
+    @Test
+    public void parseAlias_notAlias_returnsInput() {
+        assertFalse(aliasMap.isAlias("ad"));
+        assertEquals("ad", aliasMap.parseAlias("ad"));
+    }
+
+    @Test
+    public void getAliases_noAliases_returnsEmptyList() {
+        assertTrue(aliasMap.getAliases(AddCommand.COMMAND_WORD).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> aliasMap.getAliases(AddCommand.COMMAND_WORD)
+                .add("ad"));
+    }
+
+    @Test
+    public void isCommandAndIsReview() {
+        assertTrue(aliasMap.isCommand(AddCommand.COMMAND_WORD));
+        assertFalse(aliasMap.isCommand("ad"));
+        assertTrue(aliasMap.isReview("n"));
+        assertFalse(aliasMap.isReview(AddCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void json_savedAliases_readBack() throws Exception {
+        aliasMap.addAlias(AddCommand.COMMAND_WORD, "ad");
+        aliasMap.addAlias(AddCommand.COMMAND_WORD, "new");
+
+        AliasMap readAliasMap = JsonUtil.fromJsonString(JsonUtil.toJsonString(aliasMap), AliasMap.class);
+        assertEquals(aliasMap, readAliasMap);
+        assertEquals(AddCommand.COMMAND_WORD, readAliasMap.parseAlias("new"));
+    }
+
+    @Test
+    public void json_singleAliasPerCommand_readAsList() throws Exception {
+        AliasMap readAliasMap = JsonUtil.fromJsonString("{\"aliasMap\": {\"add\": \"ad\"}}", AliasMap.class);
+        assertEquals(List.of("ad"), readAliasMap.getAliases(AddCommand.COMMAND_WORD));
+        assertFalse(readAliasMap.isCorrupted());
+    }
+
+    @Test
+    public void isCorrupted_invalidSavedAliases_returnsTrue() throws Exception {
+        // key is not a command
+        assertTrue(readAliasMap("{\"invalid\": [\"inv\"]}").isCorrupted());
+
+        // alias is a command
+        assertTrue(readAliasMap("{\"add\": [\"delete\"]}").isCorrupted());
+
+        // alias is a review word
+        assertTrue(readAliasMap("{\"add\": [\"n\"]}").isCorrupted());
+
+        // alias is not alphanumerical
+        assertTrue(readAliasMap("{\"add\": [\"a d\"]}").isCorrupted());
+
+        // alias of two commands
+        assertTrue(readAliasMap("{\"add\": [\"x\"], \"delete\": [\"x\"]}").isCorrupted());
+
+        // alias listed twice
+        assertTrue(readAliasMap("{\"add\": [\"ad\", \"ad\"]}").isCorrupted());
+
+        // alias is not a string
+        assertTrue(readAliasMap("{\"add\": [1]}").isCorrupted());
+    }
+
+    private AliasMap readAliasMap(String savedAliases) throws Exception {
+        return JsonUtil.fromJsonString("{\"aliasMap\": " + savedAliases + "}", AliasMap.class);
+    }
+}
@@ -2,6 +2,8 @@ package seedu.flashback.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.logic.commands.CommandTestUtil.VALID_PRIORITY_OCTOPUS;
 import static seedu.flashback.logic.commands.CommandTestUtil.VALID_TAG_EQUATION;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.flashback.model.flashcard.ColumnarFlashcardStore;
 import seedu.flashback.model.flashcard.Flashcard;
 import seedu.flashback.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.flashback.testutil.FlashcardBuilder;
@@ -83,6 +86,20 @@ public class FlashBackTest {
         assertThrows(UnsupportedOperationException.class, () -> flashBack.getCardList().remove(0));
     }
 
+    @Test
+    public void getColumnarStore_reusedUntilCardsChange() {
+        FlashBack typicalFlashBack = getTypicalFlashBack();
+        ColumnarFlashcardStore store = typicalFlashBack.getColumnarStore().get();
+        assertSame(store, typicalFlashBack.getColumnarStore().get());
+        assertEquals(typicalFlashBack.getStatistics(), store.getStatistics());
+
+        typicalFlashBack.removeCard(PYTHAGOREAN);
+        ColumnarFlashcardStore changedStore = typicalFlashBack.getColumnarStore().get();
+        assertNotSame(store, changedStore);
+        assertEquals(typicalFlashBack.getCardList().size(), changedStore.size());
+        assertEquals(typicalFlashBack.getCardList().get(0), changedStore.get(0));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -7,16 +7,26 @@ import static seedu.flashback.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 import static seedu.flashback.testutil.Assert.assertThrows;
 import static seedu.flashback.testutil.TypicalFlashcards.EINSTEIN;
 import static seedu.flashback.testutil.TypicalFlashcards.PYTHAGOREAN;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.flashback.commons.core.GuiSettings;
+import seedu.flashback.model.flashcard.Flashcard;
 import seedu.flashback.model.flashcard.FlashcardContainsKeywordsPredicate;
+import seedu.flashback.model.flashcard.FlashcardFilterPredicate;
+import seedu.flashback.model.flashcard.SortOptions;
+import seedu.flashback.model.flashcard.Statistics;
+import seedu.flashback.model.util.DeckGenerator;
 import seedu.flashback.testutil.FlashBackBuilder;
+import seedu.flashback.testutil.FlashcardBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +103,95 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredFlashcardList().remove(0));
     }
 
+    @Test
+    public void updateFilteredFlashcardList_aboveParallelThreshold_sameResultAsSerial() {
+        ModelManager serialModelManager = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        ModelManager parallelModelManager = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        parallelModelManager.setParallelFilterThreshold(0);
+        FlashcardContainsKeywordsPredicate predicate =
+                new FlashcardContainsKeywordsPredicate(Arrays.asList("equation", "Maths"));
+
+        serialModelManager.updateFilteredFlashcardList(predicate);
+        parallelModelManager.updateFilteredFlashcardList(predicate);
+        assertEquals(serialModelManager.getFilteredFlashcardList(), parallelModelManager.getFilteredFlashcardList());
+
+        // cards added after the parallel evaluation are still filtered
+        Flashcard addedCard = new FlashcardBuilder().withQuestion("New equation").build();
+        Flashcard ignoredCard = new FlashcardBuilder().withQuestion("Ignored").withCategory("Other")
+                .withAnswer("Other").withTags().build();
+        parallelModelManager.setFlashcard(PYTHAGOREAN, addedCard);
+        parallelModelManager.setFlashcard(EINSTEIN, ignoredCard);
+        assertTrue(parallelModelManager.getFilteredFlashcardList().contains(addedCard));
+        assertFalse(parallelModelManager.getFilteredFlashcardList().contains(ignoredCard));
+    }
+
+    @Test
+    public void updateFilteredFlashcardList_filterPredicateAboveThreshold_sameResultAsSerial() {
+        ModelManager serialModelManager = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        ModelManager columnarModelManager = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        columnarModelManager.setParallelFilterThreshold(0);
+        FlashcardFilterPredicate predicate = new FlashcardFilterPredicate(Arrays.asList("what", "equation"),
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+        // the second filter on unchanged cards is evaluated over columns
+        serialModelManager.updateFilteredFlashcardList(predicate);
+        columnarModelManager.updateFilteredFlashcardList(predicate);
+        columnarModelManager.updateFilteredFlashcardList(predicate);
+        assertEquals(serialModelManager.getFilteredFlashcardList(), columnarModelManager.getFilteredFlashcardList());
+
+        // cards changed after the columnar evaluation are still filtered
+        Flashcard addedCard = new FlashcardBuilder().withQuestion("New equation").build();
+        Flashcard ignoredCard = new FlashcardBuilder().withQuestion("Ignored").build();
+        columnarModelManager.setFlashcard(PYTHAGOREAN, addedCard);
+        columnarModelManager.setFlashcard(EINSTEIN, ignoredCard);
+        assertTrue(columnarModelManager.getFilteredFlashcardList().contains(addedCard));
+        assertFalse(columnarModelManager.getFilteredFlashcardList().contains(ignoredCard));
+    }
+
+    @Test
+    public void getFilteredFlashcardStatistics_summedOverColumns_sameAsFilteredCards() {
+        ModelManager columnarModelManager = new ModelManager(new DeckGenerator(300, 42).generateFlashBack(),
+                new UserPrefs());
+        columnarModelManager.setParallelFilterThreshold(0);
+        FlashcardFilterPredicate predicate = new FlashcardFilterPredicate(new ArrayList<>(),
+                new ArrayList<>(), Arrays.asList("high"), new ArrayList<>());
+
+        // every card is shown
+        assertEquals(new Statistics(columnarModelManager.getFilteredFlashcardList()),
+                columnarModelManager.getFilteredFlashcardStatistics());
+
+        // the second filter on unchanged cards is evaluated over columns
+        columnarModelManager.updateFilteredFlashcardList(predicate);
+        columnarModelManager.updateFilteredFlashcardList(predicate);
+        assertEquals(new Statistics(columnarModelManager.getFilteredFlashcardList()),
+                columnarModelManager.getFilteredFlashcardStatistics());
+
+        // the matches of the columnar filter are out of date once the cards change
+        Flashcard reviewedCard = columnarModelManager.getFilteredFlashcardList().get(0);
+        columnarModelManager.setFlashcard(reviewedCard,
+                reviewedCard.withStats(reviewedCard.getStats().review(true, 0)));
+        assertEquals(new Statistics(columnarModelManager.getFilteredFlashcardList()),
+                columnarModelManager.getFilteredFlashcardStatistics());
+    }
+
+    @Test
+    public void sortFilteredFlashcardList_sortsViewOnly() {
+        ModelManager sortedModelManager = new ModelManager(getTypicalFlashBack(), new UserPrefs());
+        List<Flashcard> deckOrder = new ArrayList<>(sortedModelManager.getFlashBack().getCardList());
+        List<Flashcard> expectedOrder = deckOrder.stream().sorted(SortOptions.QUESTION_DESCENDING)
+                .collect(Collectors.toList());
+
+        sortedModelManager.sortFilteredFlashcardList(SortOptions.QUESTION_DESCENDING);
+        assertEquals(expectedOrder, sortedModelManager.getFilteredFlashcardList());
+        assertEquals(deckOrder, sortedModelManager.getFlashBack().getCardList());
+        assertFalse(sortedModelManager.hasUnsavedChanges());
+
+        // the order is kept when the filter changes
+        sortedModelManager.updateFilteredFlashcardList(flashcard -> flashcard != EINSTEIN);
+        expectedOrder.remove(EINSTEIN);
+        assertEquals(expectedOrder, sortedModelManager.getFilteredFlashcardList());
+    }
+
     @Test
     public void equals() {
         FlashBack flashBack = new FlashBackBuilder().withFlashcard(PYTHAGOREAN).withFlashcard(EINSTEIN).build();
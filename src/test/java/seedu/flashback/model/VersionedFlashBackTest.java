@@ -0,0 +1,93 @@
+package seedu.flashback.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
+import static seedu.flashback.testutil.TypicalFlashcards.AT;
+import static seedu.flashback.testutil.TypicalFlashcards.EINSTEIN;
+import static seedu.flashback.testutil.TypicalFlashcards.PYTHAGOREAN;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.exceptions.FlashcardNotFoundException;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class VersionedFlashBackTest {
+
+    private final VersionedFlashBack versionedFlashBack = new VersionedFlashBack(getTypicalFlashBack());
+
+    @Test
+    public void undoRedo_mixedChanges_restoresEachState() {
+        FlashBack initialState = new FlashBack(versionedFlashBack);
+        Flashcard editedEinstein = new FlashcardBuilder(EINSTEIN).withStats(1, 1).build();
+
+        versionedFlashBack.removeCard(PYTHAGOREAN);
+        versionedFlashBack.setCard(EINSTEIN, editedEinstein);
+        versionedFlashBack.commit();
+        FlashBack firstState = new FlashBack(versionedFlashBack);
+
+        versionedFlashBack.addCard(AT);
+        versionedFlashBack.commit();
+        FlashBack secondState = new FlashBack(versionedFlashBack);
+
+        versionedFlashBack.undo();
+        assertEquals(firstState, new FlashBack(versionedFlashBack));
+        versionedFlashBack.undo();
+        assertEquals(initialState, new FlashBack(versionedFlashBack));
+        assertFalse(versionedFlashBack.canUndo());
+
+        versionedFlashBack.redo();
+        assertEquals(firstState, new FlashBack(versionedFlashBack));
+        versionedFlashBack.redo();
+        assertEquals(secondState, new FlashBack(versionedFlashBack));
+        assertFalse(versionedFlashBack.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThem() {
+        FlashBack initialState = new FlashBack(versionedFlashBack);
+        versionedFlashBack.addCard(AT);
+        versionedFlashBack.commit();
+        versionedFlashBack.setCard(AT, new FlashcardBuilder(AT).withStats(1, 0).build());
+
+        versionedFlashBack.undo();
+        assertEquals(initialState, new FlashBack(versionedFlashBack));
+    }
+
+    @Test
+    public void setCards_someCardsMissing_changesNothing() {
+        FlashBack initialState = new FlashBack(versionedFlashBack);
+        Map<Flashcard, Flashcard> editedCards = new HashMap<>();
+        editedCards.put(EINSTEIN, new FlashcardBuilder(EINSTEIN).withStats(1, 1).build());
+        editedCards.put(AT, new FlashcardBuilder(AT).withStats(1, 1).build());
+
+        assertThrows(FlashcardNotFoundException.class, () -> versionedFlashBack.setCards(editedCards));
+        assertEquals(initialState, new FlashBack(versionedFlashBack));
+
+        editedCards.remove(AT);
+        versionedFlashBack.setCards(editedCards);
+        versionedFlashBack.commit();
+        versionedFlashBack.undo();
+        assertEquals(initialState, new FlashBack(versionedFlashBack));
+    }
+
+    @Test
+    public void commit_exceedsMaxHistorySize_dropsOldestState() {
+        VersionedFlashBack boundedFlashBack = new VersionedFlashBack(new FlashBack(), 1);
+        boundedFlashBack.addCard(PYTHAGOREAN);
+        boundedFlashBack.commit();
+        boundedFlashBack.addCard(EINSTEIN);
+        boundedFlashBack.commit();
+
+        boundedFlashBack.undo();
+        assertTrue(boundedFlashBack.hasCard(PYTHAGOREAN));
+        assertFalse(boundedFlashBack.canUndo());
+        assertThrows(VersionedFlashBack.NoUndoableStateException.class, boundedFlashBack::undo);
+    }
+}
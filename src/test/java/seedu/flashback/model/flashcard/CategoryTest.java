@@ -1,6 +1,8 @@
 package seedu.flashback.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.testutil.Assert.assertThrows;
 
@@ -19,6 +21,14 @@ public class CategoryTest {
         assertThrows(IllegalArgumentException.class, () -> new Category(invalidEmail));
     }
 
+    @Test
+    public void of_sameCategory_returnsSharedCategory() {
+        Category category = Category.of("Physics 101");
+        assertSame(category, Category.of(new String("Physics 101")));
+        assertEquals(new Category("Physics 101"), category);
+        assertThrows(IllegalArgumentException.class, () -> Category.of(""));
+    }
+
     @Test
     public void isValidEmail() {
         // null email
@@ -0,0 +1,105 @@
+package seedu.flashback.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashback.testutil.Assert.assertThrows;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashcards;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.flashback.model.util.DeckGenerator;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class ColumnarFlashcardStoreTest {
+
+    private final List<Flashcard> flashcards = new ArrayList<>();
+    private ColumnarFlashcardStore store;
+
+    @BeforeEach
+    public void setUp() {
+        new DeckGenerator(500, 42).forEach(flashcards::add);
+        store = new ColumnarFlashcardStore(flashcards);
+    }
+
+    @Test
+    public void get_everyCard_equalsCopiedCard() {
+        assertEquals(flashcards.size(), store.size());
+        for (int i = 0; i < flashcards.size(); i++) {
+            assertEquals(flashcards.get(i), store.get(i));
+            assertEquals(flashcards.get(i).getStats(), store.getStats(i));
+        }
+        assertEquals(getTypicalFlashcards(), toList(new ColumnarFlashcardStore(getTypicalFlashcards())));
+    }
+
+    @Test
+    public void get_moreThanSixtyFourTags_allTagsKept() {
+        List<Flashcard> taggedFlashcards = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            taggedFlashcards.add(new FlashcardBuilder().withQuestion("Question " + i)
+                    .withTags("tag" + i, "tag" + (69 - i)).build());
+        }
+        assertEquals(taggedFlashcards, toList(new ColumnarFlashcardStore(taggedFlashcards)));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(flashcards.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(-1));
+    }
+
+    @Test
+    public void getStatistics_sameAsFlashcardTotals() {
+        assertEquals(new Statistics(flashcards), store.getStatistics());
+        assertEquals(new Statistics(flashcards.subList(0, 3)), store.getStatistics(new int[] {0, 1, 2}));
+        assertEquals(new Statistics(0, 0), new ColumnarFlashcardStore(Collections.emptyList()).getStatistics());
+    }
+
+    @Test
+    public void countDue_sameAsFlashcardStatistics() {
+        long time = DeckGenerator.DEFAULT_REFERENCE_TIME;
+        assertEquals(flashcards.stream().filter(flashcard -> flashcard.getStats().isDue(time)).count(),
+                store.countDue(time));
+    }
+
+    @Test
+    public void filter_sameResultAsPredicate() {
+        List<String> none = List.of();
+        assertFilterEquals(new FlashcardFilterPredicate(none, none, none, none));
+        assertFilterEquals(new FlashcardFilterPredicate(List.of("what", "is"), none, none, none));
+        assertFilterEquals(new FlashcardFilterPredicate(none, List.of("bio", "PHYSICS"), none, none));
+        assertFilterEquals(new FlashcardFilterPredicate(none, none, List.of("hi", "l"), none));
+        assertFilterEquals(new FlashcardFilterPredicate(none, none, none, List.of("exam", "r")));
+        assertFilterEquals(new FlashcardFilterPredicate(List.of("a"), List.of("o"), List.of("i"), List.of("e")));
+        assertFilterEquals(new FlashcardFilterPredicate(List.of("nomatch"), none, none, none));
+    }
+
+    @Test
+    public void filter_moreThanSixtyFourTags_sameResultAsPredicate() {
+        flashcards.clear();
+        for (int i = 0; i < 70; i++) {
+            flashcards.add(new FlashcardBuilder().withQuestion("Question " + i)
+                    .withTags("tag" + i, "tag" + (69 - i)).build());
+        }
+        store = new ColumnarFlashcardStore(flashcards);
+
+        List<String> none = List.of();
+        assertFilterEquals(new FlashcardFilterPredicate(none, none, none, List.of("tag68")));
+        assertFilterEquals(new FlashcardFilterPredicate(none, none, none, List.of("tag1", "tag65")));
+    }
+
+    private void assertFilterEquals(FlashcardFilterPredicate predicate) {
+        List<Integer> expectedIndices = IntStream.range(0, flashcards.size())
+                .filter(i -> predicate.test(flashcards.get(i))).boxed().collect(Collectors.toList());
+        assertEquals(expectedIndices, IntStream.of(store.filter(predicate)).boxed().collect(Collectors.toList()));
+    }
+
+    private static List<Flashcard> toList(ColumnarFlashcardStore store) {
+        return IntStream.range(0, store.size()).mapToObj(store::get).collect(Collectors.toList());
+    }
+}
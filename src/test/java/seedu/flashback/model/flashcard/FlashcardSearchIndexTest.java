@@ -0,0 +1,60 @@
+package seedu.flashback.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class FlashcardSearchIndexTest {
+
+    private final FlashcardSearchIndex searchIndex = new FlashcardSearchIndex();
+
+    @Test
+    public void getIndexedPredicate_sameResultsAsPredicate() {
+        Flashcard questionCard = new FlashcardBuilder().withQuestion("Alice Bob").build();
+        Flashcard answerCard = new FlashcardBuilder().withQuestion("Other").withAnswer("ALICE").build();
+        Flashcard tagCard = new FlashcardBuilder().withQuestion("Tagged").withTags("Alicia").build();
+        Flashcard otherCard = new FlashcardBuilder().withQuestion("Carol").withAnswer("Dave").build();
+        for (Flashcard card : Arrays.asList(questionCard, answerCard, tagCard, otherCard)) {
+            searchIndex.add(card);
+        }
+
+        // full and partial keywords, case insensitive
+        FlashcardContainsKeywordsPredicate predicate = new FlashcardContainsKeywordsPredicate(Arrays.asList("aLiC"));
+        Predicate<Flashcard> indexedPredicate = searchIndex.getIndexedPredicate(predicate);
+        for (Flashcard card : Arrays.asList(questionCard, answerCard, tagCard, otherCard)) {
+            assertEquals(predicate.test(card), indexedPredicate.test(card));
+        }
+        assertTrue(indexedPredicate.test(tagCard));
+        assertFalse(indexedPredicate.test(otherCard));
+
+        // keywords shorter than a trigram
+        indexedPredicate = searchIndex.getIndexedPredicate(
+                new FlashcardContainsKeywordsPredicate(Collections.singletonList("da")));
+        assertTrue(indexedPredicate.test(otherCard));
+        assertFalse(indexedPredicate.test(questionCard));
+    }
+
+    @Test
+    public void getIndexedPredicate_cardsChangedAfterSearch_evaluatedOnCurrentCards() {
+        Flashcard card = new FlashcardBuilder().withQuestion("Carol").build();
+        searchIndex.add(card);
+        Predicate<Flashcard> indexedPredicate = searchIndex.getIndexedPredicate(
+                new FlashcardContainsKeywordsPredicate(Collections.singletonList("alice")));
+
+        Flashcard addedCard = new FlashcardBuilder().withQuestion("Alice").build();
+        searchIndex.add(addedCard);
+        assertTrue(indexedPredicate.test(addedCard));
+
+        searchIndex.remove(card);
+        assertFalse(searchIndex.contains(card));
+        assertFalse(indexedPredicate.test(card));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.flashback.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashback.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class FlashcardSortOrderTest {
+
+    private final Flashcard highNew = new FlashcardBuilder().withQuestion("B").withPriority("High").build();
+    private final Flashcard highWeak = new FlashcardBuilder().withQuestion("C").withPriority("High")
+            .withStats(4, 1).build();
+    private final Flashcard highStrong = new FlashcardBuilder().withQuestion("A").withPriority("High")
+            .withStats(4, 3).build();
+    private final Flashcard lowNew = new FlashcardBuilder().withQuestion("D").withPriority("Low").build();
+    private final Flashcard lowTied = new FlashcardBuilder().withQuestion("E").withPriority("Low").build();
+
+    @Test
+    public void constructor_noOptions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FlashcardSortOrder(Collections.emptyList()));
+    }
+
+    @Test
+    public void compare_priorityThenRate_tiesOrderedByQuestion() {
+        FlashcardSortOrder order = new FlashcardSortOrder(
+                Arrays.asList(SortOptions.PRIORITY_DESCENDING, SortOptions.RATE_DESCENDING));
+        List<Flashcard> cards = new ArrayList<>(Arrays.asList(lowTied, highNew, lowNew, highWeak, highStrong));
+
+        cards.sort(order);
+        assertEquals(Arrays.asList(highStrong, highWeak, highNew, lowNew, lowTied), cards);
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.flashback.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.testutil.Assert.assertThrows;
 
@@ -19,6 +21,13 @@ public class PriorityTest {
         assertThrows(IllegalArgumentException.class, () -> new Priority(invalidPriority));
     }
 
+    @Test
+    public void of_samePriority_returnsSharedPriority() {
+        assertSame(Priority.of("High"), Priority.of("High"));
+        assertEquals(new Priority("Low"), Priority.of("Low"));
+        assertThrows(IllegalArgumentException.class, () -> Priority.of("high"));
+    }
+
     @Test
     public void isValidPriority() {
         // null address
@@ -35,4 +44,17 @@ public class PriorityTest {
         assertTrue(Priority.isValidPriority("Mid"));
         assertTrue(Priority.isValidPriority("Low"));
     }
+
+    @Test
+    public void compareTo_byLevel() {
+        Priority low = new Priority("Low");
+        Priority mid = new Priority("Mid");
+        Priority high = new Priority("High");
+
+        assertTrue(low.compareTo(mid) < 0);
+        assertTrue(high.compareTo(mid) > 0);
+        assertEquals(0, high.compareTo(new Priority("High")));
+        assertEquals(Priority.Level.HIGH, high.getLevel());
+        assertEquals("High", high.value);
+    }
 }
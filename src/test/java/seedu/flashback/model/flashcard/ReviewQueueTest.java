@@ -0,0 +1,54 @@
+package seedu.flashback.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class ReviewQueueTest {
+
+    private final Flashcard newCard = new FlashcardBuilder().withQuestion("New").build();
+    private final Flashcard dueSoon = new FlashcardBuilder().withQuestion("Due soon")
+            .withStats(new Statistics(1, 1, 100, Statistics.DEFAULT_EASE_FACTOR, 1, 1)).build();
+    private final Flashcard dueLater = new FlashcardBuilder().withQuestion("Due later")
+            .withStats(new Statistics(1, 1, 200, Statistics.DEFAULT_EASE_FACTOR, 1, 1)).build();
+
+    @Test
+    public void getDue_dueCards_inDueOrder() {
+        ObservableList<Flashcard> cards = FXCollections.observableArrayList(dueLater, dueSoon, newCard);
+        ReviewQueue reviewQueue = new ReviewQueue(cards);
+
+        assertEquals(List.of(newCard, dueSoon), reviewQueue.getDue(150));
+        assertEquals(List.of(newCard, dueSoon, dueLater), reviewQueue.getDue(200));
+    }
+
+    @Test
+    public void getDue_cardRescheduled_followsList() {
+        ObservableList<Flashcard> cards = FXCollections.observableArrayList(newCard, dueSoon, dueLater);
+        ReviewQueue reviewQueue = new ReviewQueue(cards);
+
+        cards.set(0, new FlashcardBuilder(newCard).withStats(new Statistics().review(true, 200)).build());
+        assertEquals(List.of(dueSoon, dueLater), reviewQueue.getDue(200));
+        assertEquals(3, reviewQueue.size());
+    }
+
+    @Test
+    public void getDue_filteredList_followsPredicate() {
+        FilteredList<Flashcard> filteredCards =
+                new FilteredList<>(FXCollections.observableList(Arrays.asList(newCard, dueSoon, dueLater)));
+        ReviewQueue reviewQueue = new ReviewQueue(filteredCards);
+
+        filteredCards.setPredicate(card -> card != newCard);
+        assertEquals(List.of(dueSoon, dueLater), reviewQueue.getDue(200));
+
+        filteredCards.setPredicate(null);
+        assertEquals(List.of(newCard, dueSoon, dueLater), reviewQueue.getDue(200));
+    }
+}
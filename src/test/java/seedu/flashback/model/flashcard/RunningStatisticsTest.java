@@ -0,0 +1,46 @@
+package seedu.flashback.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class RunningStatisticsTest {
+
+    private final Flashcard first = new FlashcardBuilder().withQuestion("First").withStats(3, 1).build();
+    private final Flashcard second = new FlashcardBuilder().withQuestion("Second").withStats(5, 5).build();
+    private final Flashcard third = new FlashcardBuilder().withQuestion("Third").withStats(2, 0).build();
+
+    @Test
+    public void getStatistics_listChanges_matchesRecomputedTotal() {
+        ObservableList<Flashcard> cards = FXCollections.observableArrayList(first, second);
+        RunningStatistics runningStatistics = new RunningStatistics(cards);
+        assertEquals(new Statistics(cards), runningStatistics.getStatistics());
+
+        cards.add(third);
+        cards.remove(first);
+        cards.set(0, new FlashcardBuilder(second).withStats(6, 5).build());
+        assertEquals(new Statistics(cards), runningStatistics.getStatistics());
+
+        cards.setAll(first);
+        assertEquals(new Statistics(3, 1), runningStatistics.getStatistics());
+    }
+
+    @Test
+    public void getStatistics_filteredList_followsPredicate() {
+        FilteredList<Flashcard> filteredCards =
+                new FilteredList<>(FXCollections.observableList(Arrays.asList(first, second, third)));
+        RunningStatistics runningStatistics = new RunningStatistics(filteredCards);
+
+        filteredCards.setPredicate(card -> card.getStats().getCorrectCount() == 0);
+        assertEquals(new Statistics(2, 0), runningStatistics.getStatistics());
+        filteredCards.setPredicate(null);
+        assertEquals(new Statistics(10, 6), runningStatistics.getStatistics());
+    }
+}
@@ -12,6 +12,8 @@ public class SortOptionsTest {
         assertTrue(SortOptions.isValidOption("priority d"));
         assertTrue(SortOptions.isValidOption("question a"));
         assertTrue(SortOptions.isValidOption("question d"));
+        assertTrue(SortOptions.isValidOption("rate a"));
+        assertTrue(SortOptions.isValidOption("rate d"));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package seedu.flashback.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.testutil.Assert.assertThrows;
@@ -44,6 +45,48 @@ public class StatisticsTest {
         assertFalse(Statistics.isValidStats(negativeCorrectCountStats));
     }
 
+    @Test
+    public void review_correctAnswers_intervalGrowsByEaseFactor() {
+        long day = 86_400_000L;
+        Statistics stats = new Statistics().review(true, 0);
+        assertEquals(1, stats.getInterval());
+        assertEquals(day, stats.getDueTime());
+
+        stats = stats.review(true, day);
+        assertEquals(6, stats.getInterval());
+        assertEquals(7 * day, stats.getDueTime());
+
+        stats = stats.review(true, 7 * day);
+        assertEquals(15, stats.getInterval());
+        assertEquals(Statistics.DEFAULT_EASE_FACTOR, stats.getEaseFactor());
+        assertEquals(3, stats.getRepetitions());
+        assertTrue(stats.getReviewCount() == 3 && stats.getCorrectCount() == 3);
+        assertFalse(stats.isDue(21 * day));
+        assertTrue(stats.isDue(22 * day));
+    }
+
+    @Test
+    public void review_wrongAnswer_resetsIntervalAndLowersEaseFactor() {
+        Statistics stats = new Statistics().review(true, 0).review(true, 0).review(false, 0);
+        assertEquals(1, stats.getInterval());
+        assertEquals(0, stats.getRepetitions());
+        assertEquals(Statistics.DEFAULT_EASE_FACTOR - 320, stats.getEaseFactor());
+        assertTrue(stats.getReviewCount() == 3 && stats.getCorrectCount() == 2);
+
+        for (int i = 0; i < 5; i++) {
+            stats = stats.review(false, 0);
+        }
+        assertEquals(Statistics.MIN_EASE_FACTOR, stats.getEaseFactor());
+        assertTrue(Statistics.isValidStats(stats));
+    }
+
+    @Test
+    public void invalidSchedule_invalidStats() {
+        assertFalse(Statistics.isValidStats(new Statistics(0, 0, -1, Statistics.DEFAULT_EASE_FACTOR, 0, 0)));
+        assertFalse(Statistics.isValidStats(new Statistics(0, 0, 0, Statistics.MIN_EASE_FACTOR - 1, 0, 0)));
+        assertFalse(Statistics.isValidStats(new Statistics(0, 0, 0, Statistics.DEFAULT_EASE_FACTOR, -1, 0)));
+    }
+
     @Test
     public void equals() {
         Statistics firstStats = new Statistics(2, 1);
@@ -1,5 +1,6 @@
 package seedu.flashback.model.flashcard;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -110,6 +111,18 @@ public class UniqueFlashcardListTest {
         assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.setCard(PYTHAGOREAN, AT));
     }
 
+    @Test
+    public void setFlashcard_editedFlashcardHasDifferentIdentity_updatesContains() {
+        uniqueFlashcardList.add(PYTHAGOREAN);
+        uniqueFlashcardList.setCard(PYTHAGOREAN, AT);
+        assertFalse(uniqueFlashcardList.contains(PYTHAGOREAN));
+        assertTrue(uniqueFlashcardList.contains(AT));
+
+        // the old question is no longer indexed, so the card can be added again
+        assertDoesNotThrow(() -> uniqueFlashcardList.add(PYTHAGOREAN));
+        assertTrue(uniqueFlashcardList.contains(PYTHAGOREAN));
+    }
+
     @Test
     public void remove_nullFlashcard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList.remove(null));
@@ -126,6 +139,7 @@ public class UniqueFlashcardListTest {
         uniqueFlashcardList.remove(PYTHAGOREAN);
         UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+        assertFalse(uniqueFlashcardList.contains(PYTHAGOREAN));
     }
 
     @Test
@@ -155,6 +169,8 @@ public class UniqueFlashcardListTest {
         UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
         expectedUniqueFlashcardList.add(AT);
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+        assertFalse(uniqueFlashcardList.contains(PYTHAGOREAN));
+        assertTrue(uniqueFlashcardList.contains(AT));
     }
 
     @Test
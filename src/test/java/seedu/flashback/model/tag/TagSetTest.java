@@ -0,0 +1,69 @@
+package seedu.flashback.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag friends = new Tag("friends");
+    private final Tag colleagues = new Tag("colleagues");
+
+    @Test
+    public void of_sameTags_returnsSharedSet() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues));
+        assertSame(tagSet, TagSet.of(List.of(new Tag("colleagues"), new Tag("friends"))));
+        assertSame(tagSet, TagSet.of(tagSet));
+        assertSame(TagSet.EMPTY, TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void of_tags_internsTagsAndDropsDuplicates() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends"), new Tag("friends")));
+        assertEquals(1, tagSet.size());
+        assertSame(Tag.of("friends"), tagSet.iterator().next());
+    }
+
+    @Test
+    public void iterator_tagsSortedByName() {
+        assertEquals(List.of(colleagues, friends), new ArrayList<>(TagSet.of(Set.of(friends, colleagues))));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(friends));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(colleagues));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(TagSet.EMPTY.contains(friends));
+    }
+
+    @Test
+    public void equalsAndHashCode_otherSets() {
+        Set<Tag> hashSet = new HashSet<>(List.of(friends, colleagues));
+        TagSet tagSet = TagSet.of(hashSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertFalse(tagSet.equals(TagSet.of(Set.of(friends))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(colleagues));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.flashback.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashback.model.flashcard.Flashcard;
+import seedu.flashback.model.flashcard.Statistics;
+
+public class DeckGeneratorTest {
+
+    @Test
+    public void constructor_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DeckGenerator(-1, 0));
+    }
+
+    @Test
+    public void iterator_sameSeed_sameCardsEveryTime() {
+        List<Flashcard> firstPass = new ArrayList<>();
+        new DeckGenerator(200, 1).forEach(firstPass::add);
+        List<Flashcard> secondPass = new ArrayList<>();
+        new DeckGenerator(200, 1).forEach(secondPass::add);
+
+        assertEquals(200, firstPass.size());
+        assertEquals(firstPass, secondPass);
+        assertEquals(firstPass, new DeckGenerator(200, 1).stream().parallel().collect(Collectors.toList()));
+        assertNotEquals(firstPass, new DeckGenerator(200, 2).stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getCard_pastEndOfDeck_distinctFromDeck() {
+        DeckGenerator generator = new DeckGenerator(100, 3);
+        Flashcard extraCard = generator.getCard(100);
+        assertTrue(generator.stream().noneMatch(extraCard::isSameCard));
+        assertEquals(generator.getCard(100), new DeckGenerator(500, 3).getCard(100));
+    }
+
+    @Test
+    public void generateFlashBack_largeDeck_validAndVaried() {
+        DeckGenerator generator = new DeckGenerator(2000, 4);
+        List<Flashcard> cards = generator.generateFlashBack().getCardList();
+
+        assertEquals(2000, cards.size());
+        assertTrue(cards.stream().map(Flashcard::getStats).allMatch(Statistics::isValidStats));
+        assertTrue(cards.stream().anyMatch(card -> card.getStats().getReviewCount() == 0));
+        assertTrue(cards.stream().anyMatch(card -> card.getStats().getReviewCount() > 5));
+        assertTrue(cards.stream().anyMatch(card -> card.getStats().isDue(DeckGenerator.DEFAULT_REFERENCE_TIME)));
+        assertTrue(cards.stream().anyMatch(card -> !card.getStats().isDue(DeckGenerator.DEFAULT_REFERENCE_TIME)));
+
+        Set<String> priorities = cards.stream().map(card -> card.getPriority().value).collect(Collectors.toSet());
+        assertEquals(3, priorities.size());
+        assertTrue(cards.stream().map(Flashcard::getCategory).distinct().count() > 10);
+        assertTrue(cards.stream().anyMatch(card -> card.getTags().isEmpty()));
+    }
+}
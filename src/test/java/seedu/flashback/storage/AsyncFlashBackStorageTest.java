@@ -0,0 +1,98 @@
+package seedu.flashback.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashback.testutil.Assert.assertThrows;
+import static seedu.flashback.testutil.TypicalFlashcards.IDA;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.ReadOnlyFlashBack;
+
+public class AsyncFlashBackStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveFlashBack_burstOfSaves_writesLatestDataOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.json");
+        SaveCountingStorage countingStorage = new SaveCountingStorage(filePath);
+        AsyncFlashBackStorage asyncStorage = new AsyncFlashBackStorage(countingStorage, 60_000);
+        FlashBack original = getTypicalFlashBack();
+
+        asyncStorage.saveFlashBack(original);
+        original.addCard(IDA);
+        asyncStorage.saveFlashBack(original);
+        // changes made after the save must not leak into the written data
+        FlashBack expected = new FlashBack(original);
+        original.removeCard(IDA);
+        asyncStorage.flushFlashBack();
+
+        assertEquals(1, countingStorage.saveCount);
+        assertEquals(expected, new JsonFlashBackStorage(filePath).readFlashBack().get());
+    }
+
+    @Test
+    public void readFlashBack_pendingSave_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.json");
+        AsyncFlashBackStorage asyncStorage =
+                new AsyncFlashBackStorage(new JsonFlashBackStorage(filePath), 60_000);
+        FlashBack original = getTypicalFlashBack();
+
+        asyncStorage.saveFlashBack(original);
+        assertEquals(original, new FlashBack(asyncStorage.readFlashBack().get()));
+    }
+
+    @Test
+    public void flushFlashBack_backgroundWriteFails_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.json");
+        AsyncFlashBackStorage asyncStorage = new AsyncFlashBackStorage(new IoExceptionThrowingStorage(filePath));
+
+        asyncStorage.saveFlashBack(getTypicalFlashBack());
+        assertThrows(IOException.class, asyncStorage::flushFlashBack);
+    }
+
+    @Test
+    public void saveFlashBack_nullFlashBack_throwsNullPointerException() {
+        AsyncFlashBackStorage asyncStorage =
+                new AsyncFlashBackStorage(new JsonFlashBackStorage(testFolder.resolve("TempFlashBack.json")));
+        assertThrows(NullPointerException.class, () -> asyncStorage.saveFlashBack(null));
+    }
+
+    /**
+     * A {@code JsonFlashBackStorage} that counts the number of writes.
+     */
+    private static class SaveCountingStorage extends JsonFlashBackStorage {
+        private int saveCount;
+
+        SaveCountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
+            saveCount++;
+            super.saveFlashBack(flashBack, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonFlashBackStorage} that fails every write.
+     */
+    private static class IoExceptionThrowingStorage extends JsonFlashBackStorage {
+        IoExceptionThrowingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashBack(ReadOnlyFlashBack flashBack, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.flashback.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
+import static seedu.flashback.testutil.TypicalFlashcards.DARWIN;
+import static seedu.flashback.testutil.TypicalFlashcards.IDA;
+import static seedu.flashback.testutil.TypicalFlashcards.PYTHAGOREAN;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashback.commons.exceptions.DataConversionException;
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.flashcard.Statistics;
+import seedu.flashback.model.util.DeckGenerator;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class BinaryFlashBackStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveFlashBack_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.fbk");
+        FlashBack original = getTypicalFlashBack();
+        BinaryFlashBackStorage binaryFlashBackStorage = new BinaryFlashBackStorage(filePath);
+
+        binaryFlashBackStorage.saveFlashBack(original);
+        ReadOnlyFlashBack readBack = binaryFlashBackStorage.readFlashBack().get();
+        assertEquals(original, new FlashBack(readBack));
+
+        original.addCard(DARWIN);
+        original.removeCard(PYTHAGOREAN);
+        original.addCard(IDA);
+        original.setCard(IDA, new FlashcardBuilder(IDA).withStats(new Statistics().review(true, 1_000L)).build());
+        binaryFlashBackStorage.saveFlashBack(original);
+        readBack = binaryFlashBackStorage.readFlashBack().get();
+        assertEquals(original, new FlashBack(readBack));
+    }
+
+    @Test
+    public void saveFlashcards_generatedDeck_readsBackSameDeck() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.fbk");
+        DeckGenerator generator = new DeckGenerator(500, 7);
+        BinaryFlashBackStorage binaryFlashBackStorage = new BinaryFlashBackStorage(filePath);
+
+        binaryFlashBackStorage.saveFlashcards(generator, filePath);
+        assertEquals(generator.generateFlashBack(), new FlashBack(binaryFlashBackStorage.readFlashBack().get()));
+    }
+
+    @Test
+    public void convertFromJsonAndToJson_typicalFlashBack_sameDataAndSmallerFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempFlashBack.json");
+        Path binaryFilePath = testFolder.resolve("TempFlashBack.fbk");
+        Path convertedJsonFilePath = testFolder.resolve("ConvertedFlashBack.json");
+        FlashBack original = getTypicalFlashBack();
+        new JsonFlashBackStorage(jsonFilePath).saveFlashBack(original);
+
+        BinaryFlashBackStorage.convertFromJson(jsonFilePath, binaryFilePath);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+        assertEquals(original, new FlashBack(new BinaryFlashBackStorage(binaryFilePath).readFlashBack().get()));
+
+        BinaryFlashBackStorage.convertToJson(binaryFilePath, convertedJsonFilePath);
+        assertEquals(original, new FlashBack(new JsonFlashBackStorage(convertedJsonFilePath).readFlashBack().get()));
+    }
+
+    @Test
+    public void readFlashBack_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.fbk");
+        new BinaryFlashBackStorage(filePath).saveFlashBack(getTypicalFlashBack());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryFlashBackStorage(filePath).readFlashBack());
+    }
+
+    @Test
+    public void readFlashBack_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.json");
+        new JsonFlashBackStorage(filePath).saveFlashBack(getTypicalFlashBack());
+
+        assertThrows(DataConversionException.class, () -> new BinaryFlashBackStorage(filePath).readFlashBack());
+    }
+
+    @Test
+    public void readFlashBack_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFlashBackStorage(testFolder.resolve("NonExistentFile.fbk")).readFlashBack().isPresent());
+    }
+
+    @Test
+    public void convertToJson_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> BinaryFlashBackStorage.convertToJson(
+                testFolder.resolve("NonExistentFile.fbk"), testFolder.resolve("TempFlashBack.json")));
+    }
+
+    @Test
+    public void saveFlashBack_nullFlashBack_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryFlashBackStorage(testFolder.resolve("a.fbk"))
+                .saveFlashBack(null));
+    }
+}
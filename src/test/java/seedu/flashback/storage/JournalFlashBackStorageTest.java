@@ -0,0 +1,113 @@
+package seedu.flashback.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashback.testutil.Assert.assertThrows;
+import static seedu.flashback.testutil.TypicalFlashcards.EINSTEIN;
+import static seedu.flashback.testutil.TypicalFlashcards.IDA;
+import static seedu.flashback.testutil.TypicalFlashcards.PYTHAGOREAN;
+import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashback.commons.exceptions.DataConversionException;
+import seedu.flashback.model.FlashBack;
+import seedu.flashback.testutil.FlashcardBuilder;
+
+public class JournalFlashBackStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveFlashBack_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.jsonl");
+        FlashBack original = getTypicalFlashBack();
+        JournalFlashBackStorage storage = new JournalFlashBackStorage(filePath);
+
+        storage.saveFlashBack(original);
+        assertEquals(original, new FlashBack(new JournalFlashBackStorage(filePath).readFlashBack().get()));
+
+        // changes are replayed from the journal by a fresh storage
+        original.addCard(IDA);
+        original.removeCard(PYTHAGOREAN);
+        original.setCard(EINSTEIN, new FlashcardBuilder(EINSTEIN).withStats(3, 2).build());
+        storage.saveFlashBack(original);
+        assertTrue(Files.exists(getJournalPath(filePath)));
+        assertEquals(original, new FlashBack(new JournalFlashBackStorage(filePath).readFlashBack().get()));
+    }
+
+    @Test
+    public void saveFlashBack_statsChanged_appendsSmallEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.jsonl");
+        FlashBack original = getTypicalFlashBack();
+        JournalFlashBackStorage storage = new JournalFlashBackStorage(filePath);
+        storage.saveFlashBack(original);
+        long snapshotSize = Files.size(filePath);
+
+        original.setCard(EINSTEIN, new FlashcardBuilder(EINSTEIN).withStats(1, 1).build());
+        storage.saveFlashBack(original);
+
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertEquals(2, Files.readAllLines(getJournalPath(filePath)).size());
+    }
+
+    @Test
+    public void saveFlashBack_journalExceedsThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.jsonl");
+        FlashBack original = getTypicalFlashBack();
+        JournalFlashBackStorage storage = new JournalFlashBackStorage(filePath, 1);
+        storage.saveFlashBack(original);
+
+        original.addCard(IDA);
+        storage.saveFlashBack(original);
+        original.setCard(IDA, new FlashcardBuilder(IDA).withStats(1, 0).build());
+        storage.saveFlashBack(original);
+        storage.flushFlashBack();
+
+        assertFalse(Files.exists(getRetiredJournalPath(filePath)));
+        assertEquals(original, new FlashBack(new JournalFlashBackStorage(filePath).readFlashBack().get()));
+    }
+
+    @Test
+    public void readFlashBack_incompleteLastJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.jsonl");
+        FlashBack original = getTypicalFlashBack();
+        JournalFlashBackStorage storage = new JournalFlashBackStorage(filePath);
+        storage.saveFlashBack(original);
+        original.addCard(IDA);
+        storage.saveFlashBack(original);
+
+        Files.write(getJournalPath(filePath), "{\"op\":\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new FlashBack(new JournalFlashBackStorage(filePath).readFlashBack().get()));
+    }
+
+    @Test
+    public void readFlashBack_invalidSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashBack.jsonl");
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JournalFlashBackStorage(filePath).readFlashBack());
+    }
+
+    @Test
+    public void readFlashBack_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.jsonl");
+        assertFalse(new JournalFlashBackStorage(filePath).readFlashBack().isPresent());
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    private static Path getRetiredJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal.old");
+    }
+}
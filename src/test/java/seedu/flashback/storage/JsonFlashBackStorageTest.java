@@ -2,6 +2,7 @@ package seedu.flashback.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashback.testutil.Assert.assertThrows;
 import static seedu.flashback.testutil.TypicalFlashcards.DARWIN;
 import static seedu.flashback.testutil.TypicalFlashcards.IDA;
@@ -9,6 +10,7 @@ import static seedu.flashback.testutil.TypicalFlashcards.PYTHAGOREAN;
 import static seedu.flashback.testutil.TypicalFlashcards.getTypicalFlashBack;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.flashback.commons.exceptions.DataConversionException;
 import seedu.flashback.model.FlashBack;
 import seedu.flashback.model.ReadOnlyFlashBack;
+import seedu.flashback.model.util.DeckGenerator;
 
 public class JsonFlashBackStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFlashBackStorageTest");
@@ -86,6 +89,38 @@ public class JsonFlashBackStorageTest {
 
     }
 
+    @Test
+    public void saveFlashBack_prettyPrintingOptional_sameDataRead() throws Exception {
+        Path compactFilePath = testFolder.resolve("CompactFlashBack.json");
+        Path prettyFilePath = testFolder.resolve("PrettyFlashBack.json");
+        FlashBack original = getTypicalFlashBack();
+
+        new JsonFlashBackStorage(compactFilePath).saveFlashBack(original);
+        new JsonFlashBackStorage(prettyFilePath, true).saveFlashBack(original);
+
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertTrue(Files.size(prettyFilePath) > Files.size(compactFilePath));
+        assertEquals(original, new FlashBack(new JsonFlashBackStorage(compactFilePath).readFlashBack().get()));
+        assertEquals(original, new FlashBack(new JsonFlashBackStorage(prettyFilePath).readFlashBack().get()));
+    }
+
+    @Test
+    public void saveFlashcards_generatedDeck_readsBackSameDeck() throws Exception {
+        Path filePath = testFolder.resolve("GeneratedFlashBack.json");
+        DeckGenerator generator = new DeckGenerator(500, 7);
+
+        new JsonFlashBackStorage(filePath).saveFlashcards(generator, filePath);
+        ReadOnlyFlashBack readBack = new JsonFlashBackStorage(filePath).readFlashBack().get();
+        assertEquals(generator.generateFlashBack(), new FlashBack(readBack));
+    }
+
+    @Test
+    public void readFlashBack_duplicateFlashcards_throwDataConversionException() {
+        Path duplicateFilePath = Paths.get("src", "test", "data", "JsonSerializableFlashBackTest",
+                "duplicateFlashcardFlashBack.json");
+        assertThrows(DataConversionException.class, () -> new JsonFlashBackStorage(duplicateFilePath).readFlashBack());
+    }
+
     @Test
     public void saveFlashBack_nullFlashBack_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveFlashBack(null, "SomeFile.json"));
@@ -100,6 +100,14 @@ public class FlashcardBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Statistics}, including the review schedule, of the {@code Flashcard} that we are building.
+     */
+    public FlashcardBuilder withStats(Statistics stats) {
+        this.stats = stats;
+        return this;
+    }
+
     public Flashcard build() {
         return new Flashcard(question, answer, category, priority, remark, tags, stats);
     }
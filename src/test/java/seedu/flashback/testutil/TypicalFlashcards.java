@@ -13,9 +13,7 @@ import static seedu.flashback.logic.commands.CommandTestUtil.VALID_TAG_GENERAL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 import seedu.flashback.model.FlashBack;
 import seedu.flashback.model.flashcard.Flashcard;
@@ -89,14 +87,4 @@ public class TypicalFlashcards {
     public static List<Flashcard> getTypicalFlashcards() {
         return new ArrayList<>(Arrays.asList(PYTHAGOREAN, EINSTEIN, NEWTON, ATP, MERGE, RECURSION, ACID));
     }
-
-    /**
-     * Returns a list of Flashcards in a random order with a given seed that is equal to the seed used in
-     * {@code ReviewManager} class (in this case, the seed is 3).
-     */
-    public static List<Flashcard> getTypicalFlashcardsShuffle() {
-        List<Flashcard> list = getTypicalFlashcards();
-        Collections.shuffle(list, new Random(3));
-        return list;
-    }
 }